@@ -68,3 +68,32 @@ export const remove = async (id: string | number): Promise<void> => {
     throw new Error(normalizeError(error))
   }
 }
+
+export interface StreamTasksParams {
+  status?: TaskStatus
+  priority?: TaskPriority
+}
+
+// Opens the server-sent change feed. `onChange` runs for every pushed change, for `resync`
+// (the server dropped events for us) and after a reconnect, since events may have been missed.
+// Returns a function that closes the stream.
+export const stream = (params: StreamTasksParams, onChange: () => void): (() => void) => {
+  const query = new URLSearchParams()
+  if (params.status) query.set('status', params.status)
+  if (params.priority) query.set('priority', params.priority)
+
+  const source = new EventSource(`${httpClient.defaults.baseURL}/tasks/stream?${query}`)
+  let reconnecting = false
+  source.addEventListener('task', onChange)
+  source.addEventListener('resync', onChange)
+  source.addEventListener('error', () => {
+    reconnecting = true
+  })
+  source.addEventListener('open', () => {
+    if (reconnecting) {
+      reconnecting = false
+      onChange()
+    }
+  })
+  return () => source.close()
+}
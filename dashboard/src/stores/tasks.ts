@@ -4,6 +4,8 @@ import type { Task, TaskStatus, TaskPriority } from '../types/task'
 import * as tasksService from '../services/tasks'
 
 let abortController: AbortController | null = null
+let closeStream: (() => void) | null = null
+let streamRefreshTimer: ReturnType<typeof setTimeout> | null = null
 
 export const useTasksStore = defineStore('tasks', () => {
   // State
@@ -100,6 +102,34 @@ export const useTasksStore = defineStore('tasks', () => {
     }
   }
 
+  // Re-fetch when the server pushes a change, coalescing bursts into one request
+  const startLiveUpdates = () => {
+    stopLiveUpdates()
+    const params: tasksService.StreamTasksParams = {}
+    if (filters.value.status !== 'ALL') {
+      params.status = filters.value.status
+    }
+    if (filters.value.priority !== 'ALL') {
+      params.priority = filters.value.priority
+    }
+    closeStream = tasksService.stream(params, () => {
+      if (streamRefreshTimer) {
+        clearTimeout(streamRefreshTimer)
+      }
+      streamRefreshTimer = setTimeout(() => {
+        streamRefreshTimer = null
+        fetchList()
+      }, 250)
+    })
+  }
+
+  const stopLiveUpdates = () => {
+    if (closeStream) {
+      closeStream()
+      closeStream = null
+    }
+  }
+
   const setFilter = (key: keyof typeof filters.value, value: any) => {
     filters.value[key] = value
     pagination.value.page = 1 // Reset to first page on filter change
@@ -217,6 +247,8 @@ export const useTasksStore = defineStore('tasks', () => {
 
     // Actions
     fetchList,
+    startLiveUpdates,
+    stopLiveUpdates,
     setFilter,
     setPage,
     setSize,
@@ -119,8 +119,9 @@ export const initializeTasksQuery = () => {
   // Initialize from query params
   parseQueryToStore()
 
-  // Fetch initial data
+  // Fetch initial data, then follow server-pushed changes
   store.fetchList()
+  store.startLiveUpdates()
 
   // Watch for changes and update query params
   watch(() => store.filters.q, () => {
@@ -131,11 +132,13 @@ export const initializeTasksQuery = () => {
   watch(() => store.filters.status, () => {
     updateQueryFromStore()
     store.fetchList()
+    store.startLiveUpdates()
   })
 
   watch(() => store.filters.priority, () => {
     updateQueryFromStore()
     store.fetchList()
+    store.startLiveUpdates()
   })
 
   watch(() => store.pagination.page, () => {
@@ -0,0 +1,49 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.TaskFixtures;
+import com.example.tasksapp.TasksappApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Starts the application without the web layer and seeds the in-memory database with
+ * generated tasks, so benchmarks run against the real repository, service and caches.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(int rows) {
+        ConfigurableApplicationContext context = run(Map.of("tasks.search.index.enabled", "false"));
+        seed(context.getBean(JdbcTemplate.class), rows);
+        return context;
+    }
+
+    /**
+     * Starts the application without seeding. {@code properties} only add defaults; {@code args}
+     * (e.g. {@code --spring.profiles.active=durable}) override profile files like on the command line.
+     */
+    static ConfigurableApplicationContext run(Map<String, Object> properties, String... args) {
+        SpringApplication application = new SpringApplication(TasksappApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        Map<String, Object> defaults = new HashMap<>(Map.of(
+                "spring.main.banner-mode", "off",
+                "spring.devtools.restart.enabled", "false",
+                "logging.level.root", "WARN"
+        ));
+        defaults.putAll(properties);
+        application.setDefaultProperties(defaults);
+        return application.run(args);
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        TaskFixtures.seed(jdbcTemplate, rows, new Random(42));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.search.TaskSearchIndex;
+import com.example.tasksapp.service.DatabaseBackupService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Timeout;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time until the application is ready with {@code rows} tasks loaded and searchable: the
+ * in-memory database (reload every task and rebuild the index) against the durable profile
+ * (reopen the file, load the index snapshot), with a forced reindex, and after restoring the
+ * database from a backup. The durable database is generated once under target/ and reused.
+ * Run with {@code -Djmh.includes=StartupBenchmark -Djmh.rows=1000000 -Djmh.profiler=}... or any
+ * profiler; startup is one shot per iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+// Generating a million rows for the first trial takes minutes, past JMH's default 10 minute timeout
+@Timeout(time = 1, timeUnit = TimeUnit.HOURS)
+public class StartupBenchmark {
+
+    @Param("1000000")
+    public int rows;
+
+    private Path storageDir;
+    private Path indexSnapshot;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void createDurableDatabase() throws IOException {
+        storageDir = Path.of("target", "jmh-startup-" + rows).toAbsolutePath();
+        indexSnapshot = storageDir.resolve("search-index.bin");
+        if (Files.exists(storageDir.resolve("taskdb.mv.db")) && Files.exists(indexSnapshot)) {
+            return;
+        }
+        ConfigurableApplicationContext seeding = startDurable();
+        seeding.getBean(JdbcTemplate.class).update("DELETE FROM tasks");
+        BenchmarkContext.seed(seeding.getBean(JdbcTemplate.class), rows);
+        seeding.getBean(TaskSearchIndex.class).rebuild();
+        seeding.close();
+
+        // Backed up after a restart, so the zip also carries the index snapshot written on close
+        ConfigurableApplicationContext reopened = startDurable();
+        reopened.getBean(DatabaseBackupService.class).backup();
+        reopened.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext inMemoryReload() {
+        context = BenchmarkContext.run(Map.of());
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM tasks");
+        BenchmarkContext.seed(jdbcTemplate, rows);
+        context.getBean(TaskSearchIndex.class).rebuild();
+        return context;
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext durableReopen() {
+        context = startDurable();
+        return context;
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext durableReopenWithReindex() throws IOException {
+        Files.deleteIfExists(indexSnapshot);
+        context = startDurable();
+        return context;
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext restoreFromBackup() throws IOException {
+        Files.delete(storageDir.resolve("taskdb.mv.db"));
+        context = startDurable("--tasks.storage.restore-from=latest");
+        return context;
+    }
+
+    private ConfigurableApplicationContext startDurable(String... args) {
+        String[] all = new String[args.length + 2];
+        all[0] = "--spring.profiles.active=durable";
+        all[1] = "--tasks.storage.dir=" + storageDir;
+        System.arraycopy(args, 0, all, 2, args.length);
+        return BenchmarkContext.run(Map.of(), all);
+    }
+}
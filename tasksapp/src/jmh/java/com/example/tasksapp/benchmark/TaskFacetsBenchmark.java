@@ -0,0 +1,70 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.dto.TaskFacetsResponse;
+import com.example.tasksapp.repository.TaskFacetCount;
+import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.service.TaskFacetCounter;
+import com.example.tasksapp.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code getFacets} served from {@link TaskFacetCounter}, against the grouped count query the
+ * counters are reconciled with, which is what every call would cost without them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskFacetsBenchmark {
+
+    @Param("10000")
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        // Seeded with plain JDBC, so there were no events to count
+        if (!context.getBean(TaskFacetCounter.class).reconcile()) {
+            throw new IllegalStateException("Facet counts could not be loaded");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskFacetsResponse getFacets() {
+        return taskService.getFacets();
+    }
+
+    @Benchmark
+    public List<TaskFacetCount> countFacetsInDatabase() {
+        return taskRepository.countFacets();
+    }
+}
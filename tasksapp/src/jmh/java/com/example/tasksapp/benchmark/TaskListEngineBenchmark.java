@@ -0,0 +1,90 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.search.TaskBitmapIndex;
+import com.example.tasksapp.service.TaskListCache;
+import com.example.tasksapp.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code getTasks} without a search term, answered by the database or by {@link TaskBitmapIndex}
+ * with every task in {@code taskById}. The list cache is cleared before each call, so every call
+ * runs the query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListEngineBenchmark {
+
+    @Param("100000")
+    public int rows;
+
+    @Param({"database", "bitmap"})
+    public String engine;
+
+    @Param({"none", "status", "status_priority"})
+    public String filter;
+
+    @Param({"0", "100"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskListCache listCache;
+    private Task.Status status;
+    private Task.Priority priority;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.run(Map.of(),
+                "--tasks.query.bitmap-index.enabled=" + "bitmap".equals(engine),
+                "--tasks.cache.task-by-id.max-bytes=256MB");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkContext.seed(jdbcTemplate, rows);
+        context.getBean(TaskBitmapIndex.class).rebuild();
+        taskService = context.getBean(TaskService.class);
+        listCache = context.getBean(TaskListCache.class);
+        jdbcTemplate.queryForList("SELECT id FROM tasks", Long.class).forEach(taskService::getTaskById);
+
+        status = "none".equals(filter) ? null : Task.Status.OPEN;
+        priority = "status_priority".equals(filter) ? Task.Priority.HIGH : null;
+        pageable = PageRequest.of(page, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> getTasks() {
+        listCache.invalidateAll();
+        return taskService.getTasks(status, priority, null, pageable);
+    }
+}
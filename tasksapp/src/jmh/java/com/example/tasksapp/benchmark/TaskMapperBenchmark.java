@@ -0,0 +1,61 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.mapper.TaskMapperImpl;
+import com.example.tasksapp.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapperImpl();
+
+    private Task task;
+    private TaskUpdateRequest updateRequest;
+
+    @Setup
+    public void setUp() {
+        task = new Task();
+        task.setId(42L);
+        task.setTitle("Prepare release notes");
+        task.setDescription("Collect merged changes and write the release notes for the next version");
+        task.setStatus(Task.Status.IN_PROGRESS);
+        task.setPriority(Task.Priority.HIGH);
+        task.setDueDate(LocalDate.of(2025, 11, 1));
+        task.setCreatedAt(LocalDateTime.of(2025, 10, 1, 9, 0));
+        task.setUpdatedAt(LocalDateTime.of(2025, 10, 2, 17, 30));
+
+        updateRequest = new TaskUpdateRequest("Publish release notes", null, Task.Status.DONE, null, null);
+    }
+
+    @Benchmark
+    public TaskResponse toResponse() {
+        return taskMapper.toResponse(task);
+    }
+
+    @Benchmark
+    public Task updateEntityFromRequest() {
+        taskMapper.updateEntityFromRequest(task, updateRequest);
+        return task;
+    }
+}
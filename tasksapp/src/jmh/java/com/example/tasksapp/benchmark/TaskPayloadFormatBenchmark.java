@@ -0,0 +1,132 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.mapper.TaskProtoMapper;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.proto.TaskPageMessage;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding a {@code GET /api/tasks} page in each format the controller negotiates,
+ * with the mappers configured as in {@code MessageConverterConfig}. Jackson formats decode into a
+ * page DTO that ignores Spring's page metadata; protobuf decodes into {@link TaskResponse}s. The
+ * encoded size of each page is the {@code bytes} secondary result of {@link #encodedSize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskPayloadFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    public String format;
+
+    @Param({"20", "100"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private Page<TaskResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            case "smile" -> Jackson2ObjectMapperBuilder.json().factory(new SmileFactory())
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+            default -> null;
+        };
+        if (mapper != null) {
+            mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        }
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskResponse> content = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime updated = now.minusMinutes(random.nextInt(525_600));
+            content.add(new TaskResponse(1_000_000L + i * 50L, "Review the quarterly report " + i,
+                    "Collect the numbers from every team and check them against last quarter's forecast",
+                    Task.Status.values()[random.nextInt(3)], Task.Priority.values()[random.nextInt(3)],
+                    random.nextInt(4) == 0 ? null : LocalDate.now().plusDays(random.nextInt(365) - 90),
+                    updated.minusDays(random.nextInt(30)), updated));
+        }
+        page = new PageImpl<>(content, PageRequest.of(3, size, Sort.by(Sort.Direction.DESC, "updatedAt")), 100_000);
+        encoded = encodePage();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return encodePage();
+    }
+
+    /**
+     * Not a timing: reports the size of one encoded page. Event counters are summed over the
+     * measurement iterations, so it runs a single one.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public void encodedSize(PayloadSize payload) throws IOException {
+        payload.bytes = encodePage().length;
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode() throws IOException {
+        if (mapper != null) {
+            return mapper.readValue(encoded, TaskPage.class).content;
+        }
+        return TaskPageMessage.parseFrom(encoded).getContentList().stream().map(TaskProtoMapper::fromMessage).toList();
+    }
+
+    private byte[] encodePage() throws IOException {
+        return mapper != null ? mapper.writeValueAsBytes(page) : TaskProtoMapper.toMessage(page).toByteArray();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    public static class TaskPage {
+        public List<TaskResponse> content;
+        public long totalElements;
+    }
+}
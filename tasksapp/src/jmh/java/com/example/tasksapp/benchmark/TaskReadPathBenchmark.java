@@ -0,0 +1,87 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity read plus {@link TaskMapper} against the {@link TaskResponse} projection, for a list
+ * page and a single task. Run with the gc profiler (the profile default) and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskReadPathBenchmark {
+
+    @Param("10000")
+    public int rows;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskMapper taskMapper;
+    private Pageable pageable;
+    private Long id;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        id = context.getBean(JdbcTemplate.class).queryForObject("SELECT MIN(id) FROM tasks", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> pageViaEntities() {
+        return taskRepository.findTasks(Task.Status.OPEN, null, null, pageable).map(taskMapper::toResponse);
+    }
+
+    @Benchmark
+    public Page<TaskResponse> pageViaProjection() {
+        return taskRepository.findTaskResponses(Task.Status.OPEN, null, null, pageable);
+    }
+
+    @Benchmark
+    public TaskResponse byIdViaEntity() {
+        return taskMapper.toResponse(taskRepository.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public TaskResponse byIdViaProjection() {
+        return taskRepository.findResponseById(id).orElseThrow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of {@code findTasks} (content plus count query) for each filter shape and sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskRepositoryBenchmark {
+
+    @Param("10000")
+    public int rows;
+
+    @Param({"none", "status", "priority", "statusAndPriority", "text", "statusAndText"})
+    public String filter;
+
+    @Param({"updatedAt,DESC", "dueDate,ASC", "title,ASC"})
+    public String sort;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private Task.Status status;
+    private Task.Priority priority;
+    private String q;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        taskRepository = context.getBean(TaskRepository.class);
+
+        status = filter.startsWith("status") ? Task.Status.OPEN : null;
+        priority = filter.equals("priority") || filter.equals("statusAndPriority") ? Task.Priority.HIGH : null;
+        q = filter.endsWith("ext") ? "invoice" : null;
+
+        String[] parts = sort.split(",");
+        pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.fromString(parts[1]), parts[0]));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Task> findTasks() {
+        return taskRepository.findTasks(status, priority, q, pageable);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.tasksapp.benchmark;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code getTaskById} through the Spring cache proxy. The miss benchmark evicts the entry
+ * before each call, so it includes one (cheap) cache eviction on top of the database read.
+ * The not-found benchmarks are the first step of a GET of an id that does not exist, answered
+ * from the negative cache or, with the entry evicted, by the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    @Param("10000")
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Cache taskById;
+    private Cache taskMisses;
+    private Long hitId;
+    private Long missId;
+    private Long absentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(rows);
+        taskService = context.getBean(TaskService.class);
+        taskById = context.getBean(CacheManager.class).getCache(CacheConfig.TASK_BY_ID);
+        taskMisses = context.getBean(CacheManager.class).getCache(CacheConfig.TASK_MISSES);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        hitId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM tasks", Long.class);
+        missId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+        absentId = missId + 1_000_000;
+        taskService.getTaskById(hitId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> getTaskByIdCacheHit() {
+        return taskService.getTaskById(hitId);
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> getTaskByIdCacheMiss() {
+        taskById.evict(missId);
+        return taskService.getTaskById(missId);
+    }
+
+    @Benchmark
+    public Optional<TaskVersion> getTaskVersionNotFoundCached() {
+        return taskService.getTaskVersion(absentId);
+    }
+
+    @Benchmark
+    public Optional<TaskVersion> getTaskVersionNotFoundUncached() {
+        taskMisses.evict(absentId);
+        return taskService.getTaskVersion(absentId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.tasksapp.cache;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskVersion;
+
+/**
+ * Estimated heap footprint of cache entries, in bytes, for Caffeine's {@code maximumWeight}.
+ * Sizes assume a 64-bit JVM with compressed oops and Latin-1 (compact) strings; they are meant to
+ * keep a byte budget roughly honest, not to be exact. Types of other packages that depend on the
+ * caches weigh themselves through {@link Weighable}.
+ */
+public final class CacheWeights {
+
+    // Caffeine node (key/value references, access and write order links, timestamps)
+    static final int ENTRY_OVERHEAD = 64;
+    public static final int OBJECT_HEADER = 16;
+    // String object plus its byte[] header
+    private static final int STRING_OVERHEAD = 40;
+    // LocalDateTime = LocalDateTime + LocalDate + LocalTime objects
+    private static final int DATE_TIME = 72;
+    private static final int DATE = 24;
+    public static final int BOXED_LONG = 16;
+    // TaskResponse object: header and eight references
+    private static final int TASK_RESPONSE = OBJECT_HEADER + 8 * 4;
+    // PageRequest and its Sort
+    public static final int PAGEABLE = 64;
+    private static final int DEFAULT_VALUE = 64;
+
+    private CacheWeights() {
+    }
+
+    public static int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD + sizeOf(key) + sizeOf(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    public static long sizeOf(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case Long ignored -> BOXED_LONG;
+            // Boolean.TRUE / FALSE are shared constants
+            case Boolean ignored -> 0;
+            case String s -> STRING_OVERHEAD + s.length();
+            case TaskResponse task -> TASK_RESPONSE
+                    + sizeOf(task.getTitle()) + sizeOf(task.getDescription())
+                    + (task.getDueDate() != null ? DATE : 0)
+                    + (task.getCreatedAt() != null ? DATE_TIME : 0)
+                    + (task.getUpdatedAt() != null ? DATE_TIME : 0);
+            case TaskVersion version -> OBJECT_HEADER + 8 + (version.lastModified() != null ? DATE_TIME : 0);
+            case Weighable weighable -> weighable.estimatedBytes();
+            default -> DEFAULT_VALUE;
+        };
+    }
+}
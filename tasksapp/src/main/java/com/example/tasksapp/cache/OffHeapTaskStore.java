@@ -0,0 +1,462 @@
+package com.example.tasksapp.cache;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.mapper.EpochMicros;
+import com.example.tasksapp.model.Task;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serialized {@link TaskResponse}s in direct (off-heap) memory, the second level behind
+ * {@code taskById}. The byte budget is split into segments, each a ring buffer with its own lock:
+ * records are appended at the write position and, once the ring wraps, the oldest records are
+ * overwritten, so eviction is FIFO and keeps no per-entry objects. The key index of a segment is an
+ * open-addressing table of two primitive arrays, so millions of entries add nothing for the GC to trace.
+ * <p>
+ * Records carry their write time and expire after {@code expireAfterWrite}, as the heap level does,
+ * so a task written behind the application's back is not served from here for longer than from there.
+ */
+public class OffHeapTaskStore implements MeterBinder {
+
+    // record length, then the key and the write time in epoch millis, then the payload
+    private static final int RECORD_HEADER = Integer.BYTES + 2 * Long.BYTES;
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final String name;
+    private final long capacity;
+    private final long expireAfterWriteMillis;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * @param segmentCount a power of two; more segments mean less lock contention but a smaller
+     *                     largest record, as each segment gets {@code capacity / segmentCount} bytes
+     */
+    public OffHeapTaskStore(String name, long capacity, int segmentCount, Duration expireAfterWrite) {
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("segmentCount must be a power of two: " + segmentCount);
+        }
+        long segmentCapacity = capacity / segmentCount;
+        if (segmentCapacity < 1024 || segmentCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Each of the " + segmentCount + " segments must hold between 1 KB and 2 GB");
+        }
+        this.name = name;
+        this.capacity = segmentCapacity * segmentCount;
+        this.expireAfterWriteMillis = expireAfterWrite.toMillis();
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment((int) segmentCapacity);
+        }
+    }
+
+    public TaskResponse get(long id) {
+        byte[] payload = segmentFor(id).read(id, clock.millis() - expireAfterWriteMillis);
+        if (payload == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return decode(payload);
+    }
+
+    public void put(long id, TaskResponse task) {
+        if (segmentFor(id).write(id, encode(task), clock.millis())) {
+            puts.increment();
+        }
+    }
+
+    public void remove(long id) {
+        segmentFor(id).remove(id);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Bytes held by live records; overwritten or removed records are only reclaimed when the ring
+     * passes over them again.
+     */
+    public long usedBytes() {
+        long used = 0;
+        for (Segment segment : segments) {
+            used += segment.liveBytes();
+        }
+        return used;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tasks.cache.offheap.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit")
+                .description("Second-level lookups that found the task").register(registry);
+        FunctionCounter.builder("tasks.cache.offheap.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss")
+                .description("Second-level lookups that did not").register(registry);
+        FunctionCounter.builder("tasks.cache.offheap.puts", puts, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("tasks.cache.offheap.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).description("Live records overwritten when the ring wrapped").register(registry);
+        Gauge.builder("tasks.cache.offheap.size", this, OffHeapTaskStore::size)
+                .tag("cache", name).register(registry);
+        Gauge.builder("tasks.cache.offheap.bytes", this, OffHeapTaskStore::usedBytes)
+                .tag("cache", name).baseUnit("bytes").register(registry);
+    }
+
+    private Segment segmentFor(long id) {
+        return segments[(int) (mix(id) >>> 40) & (segments.length - 1)];
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    // id, title, description, status, priority, due date, created, updated
+    static byte[] encode(TaskResponse task) {
+        byte[] title = utf8(task.getTitle());
+        byte[] description = utf8(task.getDescription());
+        int size = Long.BYTES + stringSize(title) + stringSize(description) + 2 + 3 * Long.BYTES;
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putLong(task.getId() != null ? task.getId() : NONE);
+        putString(out, title);
+        putString(out, description);
+        out.put((byte) (task.getStatus() != null ? task.getStatus().ordinal() : -1));
+        out.put((byte) (task.getPriority() != null ? task.getPriority().ordinal() : -1));
+        out.putLong(task.getDueDate() != null ? task.getDueDate().toEpochDay() : NONE);
+        out.putLong(EpochMicros.of(task.getCreatedAt(), NONE));
+        out.putLong(EpochMicros.of(task.getUpdatedAt(), NONE));
+        return out.array();
+    }
+
+    static TaskResponse decode(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        long id = in.getLong();
+        String title = getString(in);
+        String description = getString(in);
+        byte status = in.get();
+        byte priority = in.get();
+        long dueDate = in.getLong();
+        return new TaskResponse(id != NONE ? id : null, title, description,
+                status >= 0 ? Task.Status.values()[status] : null,
+                priority >= 0 ? Task.Priority.values()[priority] : null,
+                dueDate != NONE ? LocalDate.ofEpochDay(dueDate) : null,
+                EpochMicros.toLocalDateTime(in.getLong(), NONE), EpochMicros.toLocalDateTime(in.getLong(), NONE));
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value != null ? value.length : 0);
+    }
+
+    private static void putString(ByteBuffer out, byte[] value) {
+        out.putInt(value != null ? value.length : -1);
+        if (value != null) {
+            out.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * Records live in {@code [head, tail)}, or in {@code [head, limit)} and {@code [0, tail)} once
+     * the ring has wrapped.
+     */
+    private final class Segment {
+
+        private final Lock lock = new ReentrantLock();
+        private final ByteBuffer buffer;
+        private final int capacity;
+        private final LongIntTable index = new LongIntTable();
+        private int head;
+        private int tail;
+        private int limit;
+        private boolean wrapped;
+        private long liveBytes;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.buffer = ByteBuffer.allocateDirect(capacity);
+            this.limit = capacity;
+        }
+
+        // Records written before writtenAfter have expired, and are removed
+        byte[] read(long key, long writtenAfter) {
+            lock.lock();
+            try {
+                int offset = index.get(key);
+                if (offset < 0) {
+                    return null;
+                }
+                if (buffer.getLong(offset + Integer.BYTES + Long.BYTES) < writtenAfter) {
+                    removeUnderLock(key);
+                    return null;
+                }
+                byte[] payload = new byte[buffer.getInt(offset) - RECORD_HEADER];
+                buffer.get(offset + RECORD_HEADER, payload);
+                return payload;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean write(long key, byte[] payload, long writtenAt) {
+            int length = RECORD_HEADER + payload.length;
+            if (length > capacity) {
+                return false;
+            }
+            lock.lock();
+            try {
+                removeUnderLock(key);
+                makeRoom(length);
+                buffer.putInt(tail, length);
+                buffer.putLong(tail + Integer.BYTES, key);
+                buffer.putLong(tail + Integer.BYTES + Long.BYTES, writtenAt);
+                buffer.put(tail + RECORD_HEADER, payload);
+                index.put(key, tail);
+                liveBytes += length;
+                tail += length;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(long key) {
+            lock.lock();
+            try {
+                removeUnderLock(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                index.clear();
+                head = 0;
+                tail = 0;
+                limit = capacity;
+                wrapped = false;
+                liveBytes = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long size() {
+            lock.lock();
+            try {
+                return index.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long liveBytes() {
+            lock.lock();
+            try {
+                return liveBytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeUnderLock(long key) {
+            int offset = index.remove(key);
+            if (offset >= 0) {
+                liveBytes -= buffer.getInt(offset);
+            }
+        }
+
+        private void makeRoom(int length) {
+            while (true) {
+                if (!wrapped) {
+                    if (head == tail) {
+                        head = 0;
+                        tail = 0;
+                    }
+                    if (tail + length <= capacity) {
+                        return;
+                    }
+                    limit = tail;
+                    tail = 0;
+                    wrapped = true;
+                } else {
+                    if (tail + length <= head) {
+                        return;
+                    }
+                    evictHead();
+                }
+            }
+        }
+
+        private void evictHead() {
+            int length = buffer.getInt(head);
+            long key = buffer.getLong(head + Integer.BYTES);
+            if (index.get(key) == head) {
+                index.remove(key);
+                liveBytes -= length;
+                evictions.increment();
+            }
+            head += length;
+            if (head >= limit) {
+                head = 0;
+                limit = capacity;
+                wrapped = false;
+            }
+        }
+    }
+
+    /**
+     * Open-addressing long to int map with linear probing and backward-shift deletion.
+     * {@code get} and {@code remove} return -1 for absent keys.
+     */
+    static final class LongIntTable {
+
+        private static final long FREE = Long.MIN_VALUE;
+
+        private long[] keys = newKeys(16);
+        private int[] values = new int[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int get(long key) {
+            int slot = find(key);
+            return slot >= 0 ? values[slot] : -1;
+        }
+
+        void put(long key, int value) {
+            if (key == FREE) {
+                throw new IllegalArgumentException("Unsupported key " + key);
+            }
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (keys[slot] != FREE && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == FREE) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        }
+
+        int remove(long key) {
+            int slot = find(key);
+            if (slot < 0) {
+                return -1;
+            }
+            int value = values[slot];
+            int mask = keys.length - 1;
+            int gap = slot;
+            for (int i = (slot + 1) & mask; keys[i] != FREE; i = (i + 1) & mask) {
+                int ideal = (int) mix(keys[i]) & mask;
+                // move the entry back into the gap unless its probe sequence starts after the gap
+                if (((i - ideal) & mask) >= ((i - gap) & mask)) {
+                    keys[gap] = keys[i];
+                    values[gap] = values[i];
+                    gap = i;
+                }
+            }
+            keys[gap] = FREE;
+            size--;
+            return value;
+        }
+
+        void clear() {
+            keys = newKeys(16);
+            values = new int[16];
+            size = 0;
+        }
+
+        private int find(long key) {
+            int mask = keys.length - 1;
+            for (int slot = (int) mix(key) & mask; keys[slot] != FREE; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private void resize(int newLength) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(newLength);
+            values = new int[newLength];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != FREE) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static long[] newKeys(int length) {
+            long[] keys = new long[length];
+            Arrays.fill(keys, FREE);
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.tasksapp.cache;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A {@link CaffeineCache} of {@link TaskResponse}s by id with an {@link OffHeapTaskStore} behind
+ * it. Puts write through to both levels and evictions clear both, so the off-heap level is a
+ * larger superset of the heap level; a heap miss that hits off-heap is promoted back onto the heap.
+ * Writes and evictions change the off-heap level first, and a promotion reads it inside the heap's
+ * {@code computeIfAbsent}, so it either sees the change or completes before the heap is changed.
+ * Everything that works on a CaffeineCache (stats, metrics, the native cache) sees the heap level.
+ */
+public class TieredCaffeineCache extends CaffeineCache {
+
+    private final OffHeapTaskStore offHeap;
+
+    public TieredCaffeineCache(String name, Cache<Object, Object> cache, OffHeapTaskStore offHeap) {
+        super(name, cache, false);
+        this.offHeap = offHeap;
+    }
+
+    public OffHeapTaskStore getOffHeapStore() {
+        return offHeap;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null || !(key instanceof Long id)) {
+            return value;
+        }
+        return getNativeCache().asMap().computeIfAbsent(key, ignored -> offHeap.get(id));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        T loaded = super.get(key, valueLoader);
+        writeOffHeap(key, loaded);
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        writeOffHeap(key, value);
+        super.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            writeOffHeap(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        removeOffHeap(key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        removeOffHeap(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        offHeap.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        offHeap.clear();
+        return super.invalidate();
+    }
+
+    private void writeOffHeap(Object key, Object value) {
+        if (key instanceof Long id && value instanceof TaskResponse task) {
+            offHeap.put(id, task);
+        }
+    }
+
+    private void removeOffHeap(Object key) {
+        if (key instanceof Long id) {
+            offHeap.remove(id);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.tasksapp.cache;
+
+/**
+ * A cache key or value that estimates its own heap footprint for {@link CacheWeights}, for
+ * types that live outside this package.
+ */
+public interface Weighable {
+
+    /**
+     * Estimated bytes, not counting the cache entry itself; see {@link CacheWeights} for the
+     * assumptions.
+     */
+    long estimatedBytes();
+}
@@ -0,0 +1,77 @@
+package com.example.tasksapp.config;
+
+import com.example.tasksapp.cache.CacheWeights;
+import com.example.tasksapp.cache.OffHeapTaskStore;
+import com.example.tasksapp.cache.TieredCaffeineCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The application caches, each bounded by an estimated byte budget ({@link CacheWeights})
+ * rather than an entry count, so a task with a long description counts for more than a bare one.
+ * With {@code tasks.cache.task-by-id.off-heap.enabled}, {@code taskById} gets an
+ * {@link OffHeapTaskStore} as a second level.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String TASK_BY_ID = "taskById";
+    public static final String TASK_LISTS = "taskLists";
+    public static final String TASK_VERSIONS = "taskVersions";
+    public static final String TASK_MISSES = "taskMisses";
+
+    @Bean
+    public CaffeineCacheManager cacheManager(
+            @Value("${tasks.cache.task-by-id.max-bytes:64MB}") DataSize taskByIdBytes,
+            @Value("${tasks.cache.task-by-id.expire-after-write:600s}") Duration taskByIdTtl,
+            @Value("${tasks.cache.task-lists.max-bytes:16MB}") DataSize taskListsBytes,
+            @Value("${tasks.cache.task-lists.expire-after-write:300s}") Duration taskListsTtl,
+            @Value("${tasks.cache.task-versions.max-bytes:8MB}") DataSize taskVersionsBytes,
+            @Value("${tasks.cache.task-versions.expire-after-write:600s}") Duration taskVersionsTtl,
+            @Value("${tasks.cache.task-misses.max-bytes:1MB}") DataSize taskMissesBytes,
+            @Value("${tasks.cache.task-misses.expire-after-write:30s}") Duration taskMissesTtl,
+            ObjectProvider<OffHeapTaskStore> offHeapStore) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                OffHeapTaskStore store = TASK_BY_ID.equals(name) ? offHeapStore.getIfAvailable() : null;
+                return store != null ? new TieredCaffeineCache(name, cache, store) : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        // Only the caches below exist; an unknown name is a bug, not a new unbounded cache
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(TASK_BY_ID, weighed(taskByIdBytes, taskByIdTtl));
+        cacheManager.registerCustomCache(TASK_LISTS, weighed(taskListsBytes, taskListsTtl));
+        cacheManager.registerCustomCache(TASK_VERSIONS, weighed(taskVersionsBytes, taskVersionsTtl));
+        cacheManager.registerCustomCache(TASK_MISSES, weighed(taskMissesBytes, taskMissesTtl));
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.cache.task-by-id.off-heap.enabled", havingValue = "true")
+    public OffHeapTaskStore taskByIdOffHeapStore(
+            @Value("${tasks.cache.task-by-id.off-heap.max-bytes:1GB}") DataSize maxBytes,
+            @Value("${tasks.cache.task-by-id.off-heap.segments:16}") int segments,
+            @Value("${tasks.cache.task-by-id.expire-after-write:600s}") Duration expireAfterWrite) {
+        return new OffHeapTaskStore(TASK_BY_ID, maxBytes.toBytes(), segments, expireAfterWrite);
+    }
+
+    private static Cache<Object, Object> weighed(DataSize maxBytes, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher(CacheWeights::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.tasksapp.config;
+
+import com.example.tasksapp.service.DatabaseBackupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Durable profile: the database lives in {@code tasks.storage.dir}. When that directory holds no
+ * database yet and {@code tasks.storage.restore-from} names a backup zip (or {@code latest}), the
+ * backup is unpacked before the DataSource opens, so the app starts on the restored data and the
+ * search index snapshot stored with it.
+ */
+@Slf4j
+@Configuration
+@Profile("durable")
+public class DurableStorageConfig {
+
+    static final String DATABASE_NAME = "taskdb";
+
+    @Bean
+    public static BeanPostProcessor backupRestoringDataSourcePostProcessor(
+            @Value("${tasks.storage.dir:./data}") Path storageDir,
+            @Value("${tasks.storage.backup-dir:./data/backups}") Path backupDir,
+            @Value("${tasks.storage.restore-from:}") String restoreFrom,
+            @Value("${tasks.search.index.snapshot-file:}") String indexSnapshot) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && StringUtils.hasText(restoreFrom)) {
+                    restoreIfMissing(storageDir, backupDir, restoreFrom, indexSnapshot);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void restoreIfMissing(Path storageDir, Path backupDir, String restoreFrom, String indexSnapshot) {
+        Path database = storageDir.resolve(DATABASE_NAME + ".mv.db");
+        if (Files.exists(database)) {
+            log.info("Database {} exists, not restoring {}", database, restoreFrom);
+            return;
+        }
+        try {
+            Path backup = resolveBackup(backupDir, restoreFrom);
+            if (backup == null) {
+                log.info("No backup in {} to restore, starting with an empty database", backupDir);
+                return;
+            }
+            long start = System.nanoTime();
+            Files.createDirectories(storageDir);
+            // The index snapshot describes whatever database was here before, not the backup
+            Path index = StringUtils.hasText(indexSnapshot) ? Path.of(indexSnapshot) : null;
+            if (index != null) {
+                Files.deleteIfExists(index);
+            }
+            unzip(backup, storageDir, index);
+            log.info("Database restored from {} in {} ms", backup, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not restore backup " + restoreFrom, e);
+        }
+    }
+
+    // BACKUP TO stores the database files under their plain names (taskdb.mv.db)
+    private static void unzip(Path backup, Path storageDir, Path index) throws IOException {
+        try (InputStream file = Files.newInputStream(backup); ZipInputStream zip = new ZipInputStream(file)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                String name = Path.of(entry.getName()).getFileName().toString();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (name.startsWith(DATABASE_NAME + ".")) {
+                    Files.copy(zip, storageDir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+                } else if (name.equals(DatabaseBackupService.INDEX_ENTRY) && index != null) {
+                    Files.createDirectories(index.toAbsolutePath().getParent());
+                    Files.copy(zip, index, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        if (!Files.exists(storageDir.resolve(DATABASE_NAME + ".mv.db"))) {
+            throw new IOException(backup + " holds no " + DATABASE_NAME + " database");
+        }
+    }
+
+    private static Path resolveBackup(Path backupDir, String restoreFrom) throws IOException {
+        if (!"latest".equals(restoreFrom)) {
+            Path backup = Path.of(restoreFrom);
+            if (!Files.isRegularFile(backup)) {
+                throw new IllegalStateException("Backup " + backup + " does not exist");
+            }
+            return backup;
+        }
+        List<Path> backups = DatabaseBackupService.backupFiles(backupDir);
+        return backups.isEmpty() ? null : backups.getLast();
+    }
+}
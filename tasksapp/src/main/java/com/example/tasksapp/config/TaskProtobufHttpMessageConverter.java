@@ -0,0 +1,110 @@
+package com.example.tasksapp.config;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskSliceResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.mapper.TaskProtoMapper;
+import com.example.tasksapp.proto.TaskCreateMessage;
+import com.example.tasksapp.proto.TaskUpdateMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Reads and writes the task payloads as the messages of {@code tasks.proto}: a task, a page or
+ * scroll slice of tasks, and the create and update requests. Other responses have no schema, so
+ * asking for them as protobuf gets {@code 406}. That includes pages of anything but tasks, told
+ * apart by the declared return type.
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    // Without the charset parameter Spring's ProtobufHttpMessageConverter adds; the body is binary
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public TaskProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isRequest(clazz) || isResponse(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return isRequest(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return canRead(ResolvableType.forType(type).toClass(), mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return isResponse(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (type != null ? isResponse(ResolvableType.forType(type)) : isResponse(clazz)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(ResolvableType.forType(type).toClass(), inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (clazz == TaskCreateRequest.class) {
+                return TaskProtoMapper.fromMessage(TaskCreateMessage.parseFrom(inputMessage.getBody()));
+            }
+            return TaskProtoMapper.fromMessage(TaskUpdateMessage.parseFrom(inputMessage.getBody()));
+        } catch (InvalidProtocolBufferException e) {
+            throw new HttpMessageNotReadableException("Malformed protobuf body: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        Message message = switch (body) {
+            case TaskResponse task -> TaskProtoMapper.toMessage(task);
+            case TaskSliceResponse slice -> TaskProtoMapper.toMessage(slice);
+            case Page<?> page when page.getContent().stream().allMatch(TaskResponse.class::isInstance) ->
+                    TaskProtoMapper.toMessage((Page<TaskResponse>) page);
+            default -> throw new HttpMessageNotWritableException("No protobuf schema for " + body.getClass().getName());
+        };
+        outputMessage.getHeaders().setContentLength(message.getSerializedSize());
+        message.writeTo(outputMessage.getBody());
+    }
+
+    private static boolean isRequest(Class<?> clazz) {
+        return clazz == TaskCreateRequest.class || clazz == TaskUpdateRequest.class;
+    }
+
+    private static boolean isResponse(Class<?> clazz) {
+        return clazz == TaskResponse.class || clazz == TaskSliceResponse.class || Page.class.isAssignableFrom(clazz);
+    }
+
+    private static boolean isResponse(ResolvableType type) {
+        Class<?> clazz = type.toClass();
+        if (!Page.class.isAssignableFrom(clazz)) {
+            return isResponse(clazz);
+        }
+        return type.as(Page.class).getGeneric(0).toClass() == TaskResponse.class;
+    }
+}
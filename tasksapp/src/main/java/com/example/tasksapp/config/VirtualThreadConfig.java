@@ -0,0 +1,61 @@
+package com.example.tasksapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active with {@code spring.threads.virtual.enabled=true} (the {@code virtual} profile), where Boot
+ * already runs Tomcat requests and the application task executor on virtual threads.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${tasks.datasource.max-concurrent:0}") int maxConcurrent,
+            @Value("${tasks.datasource.max-waiting:1000}") int maxWaiting,
+            @Value("${tasks.datasource.acquire-timeout:5s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int permits = maxConcurrent > 0 ? maxConcurrent
+                        : bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                return new ConnectionLimitingDataSource(dataSource, permits, maxWaiting, acquireTimeout);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("tasks.datasource.permits.available", limited,
+                        ConnectionLimitingDataSource::availablePermits).register(registry);
+                Gauge.builder("tasks.datasource.permits.waiting", limited,
+                        ConnectionLimitingDataSource::waiting).register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            @Value("${tasks.virtual.pinned-threshold:20ms}") Duration threshold,
+            MeterRegistry meterRegistry) {
+        return new PinnedThreadMonitor(threshold, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.tasksapp.controller;
+
+import com.example.tasksapp.cache.OffHeapTaskStore;
+import com.example.tasksapp.cache.TieredCaffeineCache;
+import com.example.tasksapp.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * One entry per cache level: {@code heap} for every Caffeine cache, plus {@code off-heap}
+     * for a cache with a second level.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        List<CacheStatsResponse> stats = cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .flatMap(this::toResponses)
+                .toList();
+        return ResponseEntity.ok(stats);
+    }
+
+    private Stream<CacheStatsResponse> toResponses(CaffeineCache cache) {
+        Cache<Object, Object> nativeCache = cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        long weight = nativeCache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+        CacheStatsResponse heap = new CacheStatsResponse(cache.getName(), "heap", nativeCache.estimatedSize(), weight,
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount());
+        if (!(cache instanceof TieredCaffeineCache tiered)) {
+            return Stream.of(heap);
+        }
+        OffHeapTaskStore store = tiered.getOffHeapStore();
+        long lookups = store.hitCount() + store.missCount();
+        return Stream.of(heap, new CacheStatsResponse(cache.getName(), "off-heap", store.size(), store.usedBytes(),
+                store.hitCount(), store.missCount(), lookups > 0 ? (double) store.hitCount() / lookups : 1.0,
+                store.evictionCount()));
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.tasksapp.controller;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.service.ReactiveTaskService;
+import com.example.tasksapp.service.TaskFileFormat;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux version of {@link TaskController} for the reactive profile, with the same paths,
+ * payloads and status codes. Bulk, import and scroll endpoints are only served by the servlet stack.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+@Profile("reactive")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<TaskResponse>>> getTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+
+        Pageable pageable = createPageable(page, size, sort);
+        return taskService.getTasks(status, priority, q, pageable).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Same page as {@link #getTasks}, streamed one task per line as it is read.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> streamTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+
+        return taskService.streamPage(status, priority, q, createPageable(page, size, sort));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<Flux<String>> exportTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+        TaskFileFormat exportFormat;
+        Sort order;
+        try {
+            exportFormat = TaskFileFormat.fromParameter(format);
+            order = createPageable(0, 1, sort).getSort();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension()).build().toString())
+                .body(taskService.export(status, priority, q, order, exportFormat));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> getTaskById(@PathVariable Long id) {
+        return taskService.getTaskById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TaskResponse>> createTask(@Valid @RequestBody TaskCreateRequest request) {
+        return taskService.createTask(request)
+                .map(createdTask -> ResponseEntity.status(HttpStatus.CREATED).body(createdTask));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<TaskResponse>> updateTask(@PathVariable Long id, @Valid @RequestBody TaskUpdateRequest request) {
+        return taskService.updateTask(id, request)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id)
+                .map(deleted -> deleted
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.status(HttpStatus.NOT_FOUND).<Void>build());
+    }
+
+    private Pageable createPageable(int page, int size, String[] sort) {
+        if (sort.length == 0) {
+            return PageRequest.of(page, size);
+        }
+
+        String property = sort[0];
+        Sort.Direction direction = Sort.Direction.DESC;
+
+        if (sort.length > 1) {
+            direction = Sort.Direction.fromString(sort[1]);
+        }
+
+        return PageRequest.of(page, size, Sort.by(direction, property));
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.tasksapp.controller;
+
+import com.example.tasksapp.dto.BackupResponse;
+import com.example.tasksapp.service.DatabaseBackupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/storage")
+@Profile("durable")
+@RequiredArgsConstructor
+public class StorageController {
+
+    private final DatabaseBackupService backupService;
+
+    @PostMapping("/backups")
+    public ResponseEntity<BackupResponse> createBackup() {
+        return ResponseEntity.status(HttpStatus.CREATED).body(backupService.backup());
+    }
+
+    @GetMapping("/backups")
+    public ResponseEntity<List<BackupResponse>> getBackups() {
+        return ResponseEntity.ok(backupService.listBackups());
+    }
+}
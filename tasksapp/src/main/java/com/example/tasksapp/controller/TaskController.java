@@ -1,26 +1,56 @@
 package com.example.tasksapp.controller;
 
+import com.example.tasksapp.dto.BulkResponse;
+import com.example.tasksapp.dto.ImportReport;
+import com.example.tasksapp.dto.TaskBulkUpdateRequest;
+import com.example.tasksapp.dto.TaskChangesResponse;
 import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskFacetsResponse;
 import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskSliceResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.dto.TaskVersion;
 import com.example.tasksapp.model.Task;
+import com.example.tasksapp.service.TaskBulkService;
+import com.example.tasksapp.service.TaskChangeService;
+import com.example.tasksapp.service.TaskChangeStream;
+import com.example.tasksapp.service.TaskExportService;
+import com.example.tasksapp.service.TaskFileFormat;
+import com.example.tasksapp.service.TaskImportService;
 import com.example.tasksapp.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
+@Profile("!reactive")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBulkService taskBulkService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskChangeService taskChangeService;
+    private final TaskChangeStream taskChangeStream;
 
     @GetMapping
     public ResponseEntity<Page<TaskResponse>> getTasks(
@@ -29,21 +59,128 @@ public class TaskController {
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort,
+            WebRequest webRequest) {
+
+        TaskVersion version = taskService.getTasksVersion(status, priority, q);
+        if (webRequest.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            // 304 already set; nothing is mapped or serialized
+            return null;
+        }
 
         Pageable pageable = createPageable(page, size, sort);
         Page<TaskResponse> tasks = taskService.getTasks(status, priority, q, pageable);
         return ResponseEntity.ok(tasks);
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    @GetMapping("/facets")
+    public ResponseEntity<TaskFacetsResponse> getFacets() {
+        return ResponseEntity.ok(taskService.getFacets());
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<TaskSliceResponse> scrollTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+        try {
+            Sort order = createPageable(0, size, sort).getSort();
+            return ResponseEntity.ok(taskService.scrollTasks(status, priority, q, size, order, cursor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority) {
+        try {
+            return ResponseEntity.ok(taskChangeStream.subscribe(status, priority));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        try {
+            return ResponseEntity.ok(taskChangeService.getChanges(since, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "updatedAt,DESC") String[] sort) {
+        TaskFileFormat exportFormat;
+        Sort order;
         try {
-            TaskResponse task = taskService.getTaskById(id);
-            return ResponseEntity.ok(task);
-        } catch (RuntimeException e) {
+            exportFormat = TaskFileFormat.fromParameter(format);
+            order = createPageable(0, 1, sort).getSort();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> taskExportService.export(status, priority, q, order, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.extension()).build().toString())
+                .body(body);
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ImportReport> importTasks(
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        TaskFileFormat importFormat;
+        try {
+            importFormat = format != null ? TaskFileFormat.fromParameter(format)
+                    : contentType != null && contentType.startsWith(TaskFileFormat.NDJSON.contentType())
+                    ? TaskFileFormat.NDJSON
+                    : TaskFileFormat.CSV;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskImportService.importTasks(body, importFormat));
+    }
+
+    @GetMapping("/import")
+    public ResponseEntity<List<ImportReport>> getImports() {
+        return ResponseEntity.ok(taskImportService.getJobs());
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ImportReport> getImport(@PathVariable String jobId) {
+        return taskImportService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        Optional<TaskVersion> version = taskService.getTaskVersion(id);
+        if (version.isEmpty()) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
+        if (webRequest.checkNotModified(version.get().etag(), version.get().lastModifiedMillis())) {
+            return null;
+        }
+        return taskService.getTaskById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     @PostMapping
@@ -53,22 +190,43 @@ public class TaskController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @RequestBody TaskUpdateRequest request) {
-        try {
-            TaskResponse updatedTask = taskService.updateTask(id, request);
-            return ResponseEntity.ok(updatedTask);
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        }
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id, @Valid @RequestBody TaskUpdateRequest request) {
+        return taskService.updateTask(id, request)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
+        return taskService.deleteTask(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkResponse> createTasks(@RequestBody List<TaskCreateRequest> requests) {
         try {
-            taskService.deleteTask(id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            return ResponseEntity.ok(taskBulkService.createTasks(requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkResponse> updateTasks(@RequestBody List<TaskBulkUpdateRequest> requests) {
+        try {
+            return ResponseEntity.ok(taskBulkService.updateTasks(requests));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<BulkResponse> deleteTasks(@RequestBody List<Long> ids) {
+        try {
+            return ResponseEntity.ok(taskBulkService.deleteTasks(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
 
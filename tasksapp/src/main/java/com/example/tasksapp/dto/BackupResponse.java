@@ -0,0 +1,19 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackupResponse {
+
+    private String name;
+
+    private long sizeBytes;
+
+    private LocalDateTime createdAt;
+}
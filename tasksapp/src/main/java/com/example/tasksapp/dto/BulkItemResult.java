@@ -0,0 +1,23 @@
+package com.example.tasksapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    private int index;
+
+    private Long id;
+
+    private int status;
+
+    private TaskResponse task;
+
+    private String error;
+}
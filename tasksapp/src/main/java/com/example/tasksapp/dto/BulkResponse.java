@@ -0,0 +1,24 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResponse {
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<BulkItemResult> items;
+
+    public static BulkResponse of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(item -> item.getStatus() < 400).count();
+        return new BulkResponse(succeeded, items.size() - succeeded, items);
+    }
+}
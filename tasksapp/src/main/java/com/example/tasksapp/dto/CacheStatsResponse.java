@@ -0,0 +1,27 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+
+    private String level;
+
+    private long size;
+
+    private long bytes;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRatio;
+
+    private long evictions;
+}
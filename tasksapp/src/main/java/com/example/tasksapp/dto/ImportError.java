@@ -0,0 +1,15 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportError {
+
+    private long line;
+
+    private String message;
+}
@@ -0,0 +1,34 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+
+    private State state;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private long processed;
+
+    private long imported;
+
+    private long failed;
+
+    private List<ImportError> errors;
+}
@@ -0,0 +1,13 @@
+package com.example.tasksapp.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class TaskBulkUpdateRequest extends TaskUpdateRequest {
+
+    private Long id;
+}
@@ -0,0 +1,21 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponse {
+
+    private List<TaskResponse> changed;
+
+    private List<TaskTombstoneResponse> deleted;
+
+    private String watermark;
+
+    private boolean hasMore;
+}
@@ -2,6 +2,7 @@ package com.example.tasksapp.dto;
 
 import com.example.tasksapp.model.Task;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,9 +14,12 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class TaskCreateRequest {
 
+    // Limits as in schema.sql, so an over-long value fails validation rather than the insert
     @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
 
+    @Size(max = 1000, message = "Description must be at most 1000 characters")
     private String description;
 
     private Task.Status status;
@@ -0,0 +1,36 @@
+package com.example.tasksapp.dto;
+
+import com.example.tasksapp.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Task counts for the filters bar. Priorities are keyed by name, with {@code NONE} for tasks
+ * without one. {@code overdue} and {@code dueThisWeek} only count tasks that are not done; the
+ * week runs from {@code today} to the following Sunday.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFacetsResponse {
+
+    public static final String NO_PRIORITY = "NONE";
+
+    private long total;
+
+    private Map<Task.Status, Long> byStatus;
+
+    private Map<String, Long> byPriority;
+
+    private Map<Task.Status, Map<String, Long>> byStatusAndPriority;
+
+    private long overdue;
+
+    private long dueThisWeek;
+
+    private LocalDate today;
+}
@@ -0,0 +1,21 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSliceResponse {
+
+    private List<TaskResponse> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String next;
+}
@@ -0,0 +1,21 @@
+package com.example.tasksapp.dto;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStreamEvent {
+
+    private TaskChangedEvent.Type type;
+
+    private Long id;
+
+    /**
+     * The task after the change; null for deletions.
+     */
+    private TaskResponse task;
+}
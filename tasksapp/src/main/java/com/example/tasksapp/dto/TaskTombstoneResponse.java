@@ -0,0 +1,17 @@
+package com.example.tasksapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTombstoneResponse {
+
+    private Long id;
+
+    private LocalDateTime deletedAt;
+}
@@ -1,6 +1,8 @@
 package com.example.tasksapp.dto;
 
 import com.example.tasksapp.model.Task;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,8 +14,12 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class TaskUpdateRequest {
 
+    // Optional, as null leaves the title unchanged, but never blank
+    @Pattern(regexp = "(?s).*\\S.*", message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
     private String title;
 
+    @Size(max = 1000, message = "Description must be at most 1000 characters")
     private String description;
 
     private Task.Status status;
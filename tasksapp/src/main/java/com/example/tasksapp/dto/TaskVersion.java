@@ -0,0 +1,37 @@
+package com.example.tasksapp.dto;
+
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.mapper.EpochMicros;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for conditional GETs: how many tasks a response covers and the latest
+ * {@code updatedAt} among them. Any write either bumps the latest {@code updatedAt} or, for
+ * deletions, the count, so both together change whenever the response would.
+ * <p>
+ * The same version is served as JSON, CBOR, Smile or protobuf, so the ETag is weak: it says the
+ * content is the same, not that the bytes are.
+ */
+public record TaskVersion(long count, LocalDateTime lastModified) {
+
+    public static final TaskVersion EMPTY = new TaskVersion(0, null);
+
+    public static TaskVersion of(TaskSnapshot task) {
+        return new TaskVersion(1, task.updatedAt());
+    }
+
+    public String etag() {
+        long micros = EpochMicros.of(lastModified, 0);
+        return "W/\"" + Long.toHexString(count) + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    /**
+     * Epoch millis for {@code Last-Modified}, or -1 if there is nothing to date. Timestamps are
+     * written in the JVM's zone, so they are read back in it.
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.tasksapp.event;
+
+/**
+ * Published for every committed write to the tasks table. {@code before} is null for
+ * creations and {@code after} is null for deletions.
+ */
+public record TaskChangedEvent(Type type, TaskSnapshot before, TaskSnapshot after) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(Type.CREATED, null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(Type.UPDATED, before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(Type.DELETED, before, null);
+    }
+
+    public Long id() {
+        return after != null ? after.id() : before.id();
+    }
+}
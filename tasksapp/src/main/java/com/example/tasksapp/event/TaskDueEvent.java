@@ -0,0 +1,20 @@
+package com.example.tasksapp.event;
+
+import com.example.tasksapp.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Raised for a task that is not done as its due date approaches: {@code DUE_SOON} on the day
+ * {@code tasks.due.soon-days} before it, {@code OVERDUE} on the day after it.
+ */
+public record TaskDueEvent(Type type, Long id, Task.Status status, Task.Priority priority, LocalDate dueDate) {
+
+    public enum Type {
+        DUE_SOON, OVERDUE
+    }
+
+    public TaskDueEvent withType(Type type) {
+        return new TaskDueEvent(type, id, status, priority, dueDate);
+    }
+}
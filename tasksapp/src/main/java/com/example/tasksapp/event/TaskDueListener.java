@@ -0,0 +1,12 @@
+package com.example.tasksapp.event;
+
+/**
+ * Extension point for acting on due dates: every bean implementing it is called with each
+ * {@link TaskDueEvent}, on the scheduler's thread, so implementations should hand slow work off.
+ * Delivery is at least once; after a restart, tasks that are due soon or became overdue that day
+ * are announced again.
+ */
+public interface TaskDueListener {
+
+    void onTaskDue(TaskDueEvent event);
+}
@@ -0,0 +1,31 @@
+package com.example.tasksapp.event;
+
+import com.example.tasksapp.model.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TaskSnapshot(
+        Long id,
+        String title,
+        String description,
+        Task.Status status,
+        Task.Priority priority,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+}
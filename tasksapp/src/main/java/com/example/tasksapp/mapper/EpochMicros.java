@@ -0,0 +1,38 @@
+package com.example.tasksapp.mapper;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Timestamps as microseconds since the epoch, the precision the database keeps. Local time is
+ * read as UTC: timestamps are written in the JVM's zone and only compared or round-tripped, never
+ * shown, so the offset does not matter as long as every encoder uses this class.
+ */
+public final class EpochMicros {
+
+    private EpochMicros() {
+    }
+
+    public static long of(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    /**
+     * As {@link #of(LocalDateTime)}, with {@code ifNull} standing for a missing timestamp.
+     */
+    public static long of(LocalDateTime time, long ifNull) {
+        return time != null ? of(time) : ifNull;
+    }
+
+    public static LocalDateTime toLocalDateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * As {@link #toLocalDateTime(long)}, reading {@code ifNull} back as null.
+     */
+    public static LocalDateTime toLocalDateTime(long micros, long ifNull) {
+        return micros != ifNull ? toLocalDateTime(micros) : null;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.tasksapp.mapper;
 import com.example.tasksapp.dto.TaskCreateRequest;
 import com.example.tasksapp.dto.TaskResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskSnapshot;
 import com.example.tasksapp.model.Task;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -24,4 +25,6 @@ public interface TaskMapper {
     void updateEntityFromRequest(@MappingTarget Task task, TaskUpdateRequest request);
 
     TaskResponse toResponse(Task task);
+
+    TaskResponse toResponse(TaskSnapshot snapshot);
 }
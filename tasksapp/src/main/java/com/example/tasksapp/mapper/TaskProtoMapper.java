@@ -0,0 +1,118 @@
+package com.example.tasksapp.mapper;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskSliceResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.proto.Priority;
+import com.example.tasksapp.proto.Status;
+import com.example.tasksapp.proto.TaskCreateMessage;
+import com.example.tasksapp.proto.TaskMessage;
+import com.example.tasksapp.proto.TaskPageMessage;
+import com.example.tasksapp.proto.TaskSliceMessage;
+import com.example.tasksapp.proto.TaskUpdateMessage;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+
+/**
+ * Maps task DTOs to and from the messages of {@code tasks.proto}. Enum constants share their
+ * names; the proto's {@code *_UNSPECIFIED} stands for null. Written by hand because MapStruct
+ * does not know the builders and presence checks of generated messages.
+ */
+public final class TaskProtoMapper {
+
+    private TaskProtoMapper() {
+    }
+
+    public static TaskMessage toMessage(TaskResponse task) {
+        TaskMessage.Builder message = TaskMessage.newBuilder()
+                .setId(task.getId())
+                .setTitle(task.getTitle())
+                .setStatus(toProto(task.getStatus()))
+                .setPriority(toProto(task.getPriority()))
+                .setCreatedAt(EpochMicros.of(task.getCreatedAt(), 0))
+                .setUpdatedAt(EpochMicros.of(task.getUpdatedAt(), 0));
+        if (task.getDescription() != null) {
+            message.setDescription(task.getDescription());
+        }
+        if (task.getDueDate() != null) {
+            message.setDueDate(Math.toIntExact(task.getDueDate().toEpochDay()));
+        }
+        return message.build();
+    }
+
+    public static TaskResponse fromMessage(TaskMessage message) {
+        return new TaskResponse(
+                message.getId(),
+                message.getTitle(),
+                message.hasDescription() ? message.getDescription() : null,
+                fromProto(message.getStatus()),
+                fromProto(message.getPriority()),
+                message.hasDueDate() ? LocalDate.ofEpochDay(message.getDueDate()) : null,
+                EpochMicros.toLocalDateTime(message.getCreatedAt()),
+                EpochMicros.toLocalDateTime(message.getUpdatedAt()));
+    }
+
+    public static TaskPageMessage toMessage(Page<TaskResponse> page) {
+        TaskPageMessage.Builder message = TaskPageMessage.newBuilder()
+                .setTotalElements(page.getTotalElements())
+                .setPage(page.getNumber())
+                .setSize(page.getSize());
+        page.getContent().forEach(task -> message.addContent(toMessage(task)));
+        return message.build();
+    }
+
+    public static TaskSliceMessage toMessage(TaskSliceResponse slice) {
+        TaskSliceMessage.Builder message = TaskSliceMessage.newBuilder()
+                .setSize(slice.getSize())
+                .setHasNext(slice.isHasNext());
+        if (slice.getNext() != null) {
+            message.setNext(slice.getNext());
+        }
+        slice.getContent().forEach(task -> message.addContent(toMessage(task)));
+        return message.build();
+    }
+
+    public static TaskCreateRequest fromMessage(TaskCreateMessage message) {
+        return new TaskCreateRequest(
+                message.getTitle(),
+                message.hasDescription() ? message.getDescription() : null,
+                fromProto(message.getStatus()),
+                fromProto(message.getPriority()),
+                message.hasDueDate() ? LocalDate.ofEpochDay(message.getDueDate()) : null);
+    }
+
+    public static TaskUpdateRequest fromMessage(TaskUpdateMessage message) {
+        TaskUpdateRequest request = new TaskUpdateRequest();
+        request.setTitle(message.hasTitle() ? message.getTitle() : null);
+        request.setDescription(message.hasDescription() ? message.getDescription() : null);
+        request.setStatus(fromProto(message.getStatus()));
+        request.setPriority(fromProto(message.getPriority()));
+        request.setDueDate(message.hasDueDate() ? LocalDate.ofEpochDay(message.getDueDate()) : null);
+        return request;
+    }
+
+    private static Status toProto(Task.Status status) {
+        return status != null ? Status.valueOf(status.name()) : Status.STATUS_UNSPECIFIED;
+    }
+
+    private static Priority toProto(Task.Priority priority) {
+        return priority != null ? Priority.valueOf(priority.name()) : Priority.PRIORITY_UNSPECIFIED;
+    }
+
+    private static Task.Status fromProto(Status status) {
+        return switch (status) {
+            case STATUS_UNSPECIFIED, UNRECOGNIZED -> null;
+            default -> Task.Status.valueOf(status.name());
+        };
+    }
+
+    private static Task.Priority fromProto(Priority priority) {
+        return switch (priority) {
+            case PRIORITY_UNSPECIFIED, UNRECOGNIZED -> null;
+            default -> Task.Priority.valueOf(priority.name());
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.tasksapp.metrics;
+
+import com.example.tasksapp.model.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.StringJoiner;
+
+/**
+ * Times list queries as {@code tasks.query}, tagged with where they ran ({@code path}: database,
+ * index or bitmap) and which filters were set ({@code shape}: none, status, status_priority, search, ...).
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TaskQueryMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("(execution(* com.example.tasksapp.repository.TaskRepository.findTasks(..))"
+            + " || execution(* com.example.tasksapp.repository.TaskRepository.findTaskResponses(..)))"
+            + " && args(status, priority, q, ..)")
+    public Object timeDatabaseQuery(ProceedingJoinPoint joinPoint, Task.Status status, Task.Priority priority,
+                                    String q) throws Throwable {
+        return time(joinPoint, "database", shape(status, priority, q));
+    }
+
+    @Around("execution(* com.example.tasksapp.search.TaskSearchIndex.search(..)) && args(q, status, priority)")
+    public Object timeIndexQuery(ProceedingJoinPoint joinPoint, String q, Task.Status status,
+                                 Task.Priority priority) throws Throwable {
+        return time(joinPoint, "index", shape(status, priority, q));
+    }
+
+    @Around("execution(* com.example.tasksapp.search.TaskBitmapIndex.query(..)) && args(status, priority, ..)")
+    public Object timeBitmapQuery(ProceedingJoinPoint joinPoint, Task.Status status,
+                                  Task.Priority priority) throws Throwable {
+        return time(joinPoint, "bitmap", shape(status, priority, null));
+    }
+
+    static String shape(Task.Status status, Task.Priority priority, String q) {
+        StringJoiner shape = new StringJoiner("_").setEmptyValue("none");
+        if (status != null) {
+            shape.add("status");
+        }
+        if (priority != null) {
+            shape.add("priority");
+        }
+        if (StringUtils.hasText(q)) {
+            shape.add("search");
+        }
+        return shape.toString();
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String path, String shape) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("tasks.query")
+                    .description("List query latency by execution path and filter shape")
+                    .tag("path", path)
+                    .tag("shape", shape)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.tasksapp.model;
 
 import jakarta.persistence.*;
+import com.example.tasksapp.event.TaskSnapshot;
 import jakarta.validation.constraints.NotBlank;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,14 +18,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+// Indexes are declared in schema.sql; Hibernate only validates the schema
 @Table(name = "tasks")
+@EntityListeners(TaskEntityListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -47,6 +56,28 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Generated by the database (see schema.sql); only used in query predicates
+    @Column(name = "title_lower", insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String titleLower;
+
+    @Column(name = "description_lower", length = 1000, insertable = false, updatable = false)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String descriptionLower;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    TaskSnapshot loadedState;
+
     public enum Status {
         OPEN, IN_PROGRESS, DONE
     }
@@ -0,0 +1,67 @@
+package com.example.tasksapp.model;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns JPA lifecycle callbacks into {@link TaskChangedEvent}s. Listeners subscribe with
+ * {@code @TransactionalEventListener} so they only observe committed state. Before the first
+ * write of a transaction it joins {@link TaskChangeHorizon}, which holds delta sync back until
+ * the transaction's change numbers are committed and its events have been handled.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangeHorizon changeHorizon;
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    void beforeWrite(Task task) {
+        changeHorizon.joinCurrentTransaction();
+    }
+
+    @PostLoad
+    void onLoad(Task task) {
+        task.loadedState = TaskSnapshot.of(task);
+    }
+
+    @PostPersist
+    void onPersist(Task task) {
+        TaskSnapshot after = TaskSnapshot.of(task);
+        task.loadedState = after;
+        publish(TaskChangedEvent.created(after));
+    }
+
+    @PostUpdate
+    void onUpdate(Task task) {
+        TaskSnapshot after = TaskSnapshot.of(task);
+        TaskSnapshot before = task.loadedState;
+        task.loadedState = after;
+        publish(TaskChangedEvent.updated(before, after));
+    }
+
+    @PostRemove
+    void onRemove(Task task) {
+        TaskSnapshot before = task.loadedState != null ? task.loadedState : TaskSnapshot.of(task);
+        publish(TaskChangedEvent.deleted(before));
+    }
+
+    private void publish(TaskChangedEvent event) {
+        eventPublisher.publishEvent(event);
+        changeHorizon.holdPastListeners();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.model.Task;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * R2DBC counterpart of {@link TaskRepository} for the reactive profile. Filters follow
+ * {@link TaskSpecifications}: only the ones that are set go into the WHERE clause, so the same
+ * indexes serve both stacks.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, CAST(status AS VARCHAR) AS status, " +
+            "CAST(priority AS VARCHAR) AS priority, due_date, created_at, updated_at";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "description", "description",
+            "status", "status",
+            "priority", "priority",
+            "dueDate", "due_date",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveTaskRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Task> findTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        Filter filter = Filter.of(status, priority, q);
+        String sql = "SELECT " + COLUMNS + " FROM tasks" + filter.where() + orderBy(pageable.getSort())
+                + " LIMIT :limit OFFSET :offset";
+        return filter.bind(databaseClient.sql(sql))
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Long> countTasks(Task.Status status, Task.Priority priority, String q) {
+        Filter filter = Filter.of(status, priority, q);
+        return filter.bind(databaseClient.sql("SELECT COUNT(*) AS total FROM tasks" + filter.where()))
+                .map(row -> row.get("total", Long.class))
+                .one();
+    }
+
+    public Flux<Task> streamTasks(Task.Status status, Task.Priority priority, String q, Sort sort) {
+        Filter filter = Filter.of(status, priority, q);
+        return filter.bind(databaseClient.sql("SELECT " + COLUMNS + " FROM tasks" + filter.where() + orderBy(sort)))
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    public Mono<Task> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    /**
+     * Takes a whole sequence value as the id; Hibernate's pooled optimizer treats each value
+     * as the top of its own block, so the two never hand out the same id.
+     */
+    public Mono<Task> insert(Task task) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR tasks_seq AS id")
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(id -> {
+                    task.setId(id);
+                    return bindColumns(databaseClient.sql(
+                                    "INSERT INTO tasks (id, title, description, status, priority, due_date, created_at, updated_at) " +
+                                    "VALUES (:id, :title, :description, " + enumParam("status") + ", " + enumParam("priority") + ", :dueDate, :createdAt, :updatedAt)"), task)
+                            .bind("createdAt", task.getCreatedAt())
+                            .fetch()
+                            .rowsUpdated()
+                            .thenReturn(task);
+                });
+    }
+
+    public Mono<Task> update(Task task) {
+        return bindColumns(databaseClient.sql(
+                        "UPDATE tasks SET title = :title, description = :description, status = " + enumParam("status") + ", " +
+                        "priority = " + enumParam("priority") + ", due_date = :dueDate, updated_at = :updatedAt WHERE id = :id"), task)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(task);
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Same as {@link TaskChangeLog#recordDeletion}; run it in the deleting transaction.
+     */
+    public Mono<Long> recordDeletion(Long taskId, LocalDateTime deletedAt) {
+        return databaseClient.sql("INSERT INTO task_tombstones (task_id, deleted_at) VALUES (:taskId, :deletedAt)")
+                .bind("taskId", taskId)
+                .bind("deletedAt", deletedAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Same as {@link TaskChangeLog#latestChangeSeq}.
+     */
+    public Mono<Long> latestChangeSeq() {
+        return databaseClient.sql("SELECT GREATEST(COALESCE((SELECT MAX(change_seq) FROM tasks), 0), " +
+                        "COALESCE((SELECT MAX(change_seq) FROM task_tombstones), 0)) AS latest")
+                .map(row -> row.get("latest", Long.class))
+                .one();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Task task) {
+        spec = spec.bind("id", task.getId())
+                .bind("title", task.getTitle())
+                .bind("status", task.getStatus().name())
+                .bind("updatedAt", task.getUpdatedAt());
+        spec = task.getDescription() != null ? spec.bind("description", task.getDescription())
+                : spec.bindNull("description", String.class);
+        spec = task.getPriority() != null ? spec.bind("priority", task.getPriority().name())
+                : spec.bindNull("priority", String.class);
+        return task.getDueDate() != null ? spec.bind("dueDate", task.getDueDate())
+                : spec.bindNull("dueDate", LocalDate.class);
+    }
+
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown sort property: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+
+    // r2dbc-h2 binds strings as CLOBs, which H2 will not convert to ENUM
+    private static String enumParam(String name) {
+        return "CAST(:" + name + " AS VARCHAR(20))";
+    }
+
+    private static Task toTask(Readable row) {
+        Task task = new Task();
+        task.setId(row.get("id", Long.class));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setStatus(Task.Status.valueOf(row.get("status", String.class)));
+        String priority = row.get("priority", String.class);
+        task.setPriority(priority != null ? Task.Priority.valueOf(priority) : null);
+        task.setDueDate(row.get("due_date", LocalDate.class));
+        task.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        task.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return task;
+    }
+
+    private record Filter(String where, Map<String, Object> params) {
+
+        static Filter of(Task.Status status, Task.Priority priority, String q) {
+            StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+            Map<String, Object> params = new LinkedHashMap<>();
+            if (status != null) {
+                where.add("status = " + enumParam("status"));
+                params.put("status", status.name());
+            }
+            if (priority != null) {
+                where.add("priority = " + enumParam("priority"));
+                params.put("priority", priority.name());
+            }
+            if (StringUtils.hasText(q)) {
+                where.add("(title_lower LIKE :pattern OR description_lower LIKE :pattern)");
+                params.put("pattern", "%" + q.toLowerCase(Locale.ROOT) + "%");
+            }
+            return new Filter(where.toString(), params);
+        }
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                spec = spec.bind(param.getKey(), param.getValue());
+            }
+            return spec;
+        }
+    }
+}
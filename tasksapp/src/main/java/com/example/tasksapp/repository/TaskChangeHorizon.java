@@ -0,0 +1,140 @@
+package com.example.tasksapp.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks write transactions that may still commit change numbers. {@code change_seq} is taken
+ * when a row is written but only becomes visible at commit, so a transaction that commits late
+ * can add a number below ones already handed out. Every writer opens a ticket before its first
+ * write, holding the latest change number committed at that point; everything it writes later
+ * is numbered higher. {@link #horizon} is the highest number below which no open transaction
+ * can add anything, and delta sync stops there.
+ * <p>
+ * A transaction's ticket stays open until its transactional event listeners have run, so a
+ * writer without open tickets has also been seen by every listener; facet reloads rely on that.
+ * <p>
+ * In-process only: a second application writing to the same database is not seen.
+ */
+@Component
+public class TaskChangeHorizon {
+
+    private final TaskChangeLog changeLog;
+    private final AtomicLong tickets = new AtomicLong();
+    private final Map<Long, Long> floors = new ConcurrentHashMap<>();
+
+    public TaskChangeHorizon(TaskChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Opens a ticket for a writer about to take change numbers; {@code latestCommitted} must be
+     * read before its first write. Close it once the writer committed or rolled back.
+     */
+    public long open(long latestCommitted) {
+        long ticket = tickets.incrementAndGet();
+        floors.put(ticket, latestCommitted);
+        return ticket;
+    }
+
+    public void close(long ticket) {
+        floors.remove(ticket);
+    }
+
+    /**
+     * Opens a ticket for the current JDBC transaction unless it holds one already, and closes
+     * it after completion. Must run before the transaction's first write.
+     */
+    public void joinCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionTicket ticket = new TransactionTicket(open(changeLog.latestChangeSeq()));
+        TransactionSynchronizationManager.bindResource(this, ticket);
+        ticket.hold();
+    }
+
+    /**
+     * Keeps the current transaction's ticket open until the transactional event listeners of
+     * the events published so far have run. Call it after publishing a task event.
+     */
+    public void holdPastListeners() {
+        if (TransactionSynchronizationManager.getResource(this) instanceof TransactionTicket ticket) {
+            ticket.hold();
+        }
+    }
+
+    /**
+     * The ticket held by the current transaction, or 0 outside one. Transactional event
+     * listeners still see it.
+     */
+    public long currentTicket() {
+        return TransactionSynchronizationManager.getResource(this) instanceof TransactionTicket ticket ? ticket.ticket : 0;
+    }
+
+    public long lastTicket() {
+        return tickets.get();
+    }
+
+    /**
+     * Whether a writer that opened its ticket at or before {@code ticket} has not finished yet.
+     */
+    public boolean isOpenUpTo(long ticket) {
+        for (long open : floors.keySet()) {
+            if (open <= ticket) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Highest change number that is safe to hand out: nothing numbered at or below it can still
+     * commit. {@code latestCommitted} must be read before this call.
+     */
+    public long horizon(long latestCommitted) {
+        long horizon = latestCommitted;
+        for (long floor : floors.values()) {
+            horizon = Math.min(horizon, floor);
+        }
+        return horizon;
+    }
+
+    public int openCount() {
+        return floors.size();
+    }
+
+    /**
+     * Closed when the last of its holds completes. Synchronizations of equal order complete in
+     * the order they were registered, so a hold registered after publishing an event completes
+     * after that event's listeners; all of them run on the transaction's thread.
+     */
+    private final class TransactionTicket {
+
+        private final long ticket;
+        private int holds;
+
+        private TransactionTicket(long ticket) {
+            this.ticket = ticket;
+        }
+
+        void hold() {
+            holds++;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (--holds == 0) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeHorizon.this);
+                        close(ticket);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.event.TaskSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads tasks and tombstones by {@code change_seq}. The database renumbers a task on every
+ * insert and update and numbers each tombstone from the same sequence (see schema.sql), so
+ * "everything after watermark N" is one index range scan per table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskChangeLog {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<ChangedTask> findChangedSince(long since, int limit) {
+        return findChangedBetween(since, Long.MAX_VALUE, limit);
+    }
+
+    /**
+     * Changes numbered above {@code since} and at most {@code until}.
+     */
+    public List<ChangedTask> findChangedBetween(long since, long until, int limit) {
+        return jdbcTemplate.query(
+                "SELECT " + TaskRows.COLUMNS + ", change_seq FROM tasks " +
+                "WHERE change_seq > :since AND change_seq <= :until ORDER BY change_seq LIMIT :limit",
+                new MapSqlParameterSource("since", since).addValue("until", until).addValue("limit", limit),
+                (rs, rowNum) -> new ChangedTask(rs.getLong("change_seq"), TaskRows.SNAPSHOT_MAPPER.mapRow(rs, rowNum)));
+    }
+
+    public List<Tombstone> findDeletedSince(long since, int limit) {
+        return findDeletedBetween(since, Long.MAX_VALUE, limit);
+    }
+
+    public List<Tombstone> findDeletedBetween(long since, long until, int limit) {
+        return jdbcTemplate.query(
+                "SELECT task_id, deleted_at, change_seq FROM task_tombstones " +
+                "WHERE change_seq > :since AND change_seq <= :until ORDER BY change_seq LIMIT :limit",
+                new MapSqlParameterSource("since", since).addValue("until", until).addValue("limit", limit),
+                (rs, rowNum) -> new Tombstone(rs.getLong("change_seq"), rs.getLong("task_id"),
+                        rs.getTimestamp("deleted_at").toLocalDateTime()));
+    }
+
+    /**
+     * Highest change number held by a task or tombstone, 0 for an empty database.
+     */
+    public long latestChangeSeq() {
+        Long latest = jdbcTemplate.getJdbcTemplate().queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(change_seq) FROM tasks), 0), " +
+                "COALESCE((SELECT MAX(change_seq) FROM task_tombstones), 0))", Long.class);
+        return latest != null ? latest : 0;
+    }
+
+    public void recordDeletion(Long taskId, LocalDateTime deletedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO task_tombstones (task_id, deleted_at) VALUES (:taskId, :deletedAt)",
+                new MapSqlParameterSource("taskId", taskId).addValue("deletedAt", Timestamp.valueOf(deletedAt)));
+    }
+
+    public record ChangedTask(long changeSeq, TaskSnapshot task) {
+    }
+
+    public record Tombstone(long changeSeq, Long taskId, LocalDateTime deletedAt) {
+    }
+}
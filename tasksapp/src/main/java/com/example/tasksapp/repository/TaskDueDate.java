@@ -0,0 +1,11 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * The fields of a task the due-date scheduler and the facet counts need.
+ */
+public record TaskDueDate(Long id, Task.Status status, Task.Priority priority, LocalDate dueDate) {
+}
@@ -0,0 +1,28 @@
+package com.example.tasksapp.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * The last day {@code TaskDueScheduler} ticked on, kept in the single row of
+ * {@code task_due_ticks}, so that a restart picks up the days the app was down.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDueTicks {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDate> lastTickedDay() {
+        return jdbcTemplate.query("SELECT last_day FROM task_due_ticks WHERE id = 1",
+                (rs, rowNum) -> rs.getObject("last_day", LocalDate.class)).stream().findFirst();
+    }
+
+    public void recordTick(LocalDate day) {
+        jdbcTemplate.update("MERGE INTO task_due_ticks (id, last_day) KEY (id) VALUES (1, ?)", day);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks with one status, priority and due date. The due date is only kept for tasks
+ * that are not done; done tasks are grouped under a null due date.
+ */
+public record TaskFacetCount(Task.Status status, Task.Priority priority, LocalDate dueDate, Long count) {
+}
@@ -0,0 +1,18 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Read paths that select straight into {@link TaskResponse}, so no entity is hydrated, put in
+ * the persistence context or snapshotted for dirty checking.
+ */
+public interface TaskProjections {
+
+    /**
+     * Same filters, sort and count semantics as {@link TaskRepository#findTasks}.
+     */
+    Page<TaskResponse> findTaskResponses(Task.Status status, Task.Priority priority, String q, Pageable pageable);
+}
@@ -0,0 +1,66 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+class TaskProjectionsImpl implements TaskProjections {
+
+    private final EntityManager entityManager;
+
+    // Content and count in one read-only transaction; callers stay non-transactional so that
+    // cache hits in TaskService never check out a connection
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> findTaskResponses(Task.Status status, Task.Priority priority, String q,
+                                                Pageable pageable) {
+        Specification<Task> specification = TaskSpecifications.matching(status, priority, q);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.construct(TaskResponse.class,
+                root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+                root.get("priority"), root.get("dueDate"), root.get("createdAt"), root.get("updatedAt")));
+        where(query, specification.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<TaskResponse> contentQuery = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (pageable.isPaged()) {
+            contentQuery.setFirstResult((int) pageable.getOffset());
+            contentQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<TaskResponse> content = contentQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<Task> countRoot = countQuery.from(Task.class);
+            countQuery.select(cb.count(countRoot));
+            where(countQuery, specification.toPredicate(countRoot, countQuery, cb));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    private static void where(CriteriaQuery<?> query, Predicate predicate) {
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -1,24 +1,106 @@
 package com.example.tasksapp.repository;
 
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.event.TaskSnapshot;
 import com.example.tasksapp.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskWriteOperations, TaskVersionQueries, TaskProjections {
+
+    /**
+     * Only the filters that are set end up in the WHERE clause, so the planner can pick the
+     * matching composite index; {@code (:status IS NULL OR ...)} would force a table scan.
+     */
+    default Page<Task> findTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        return findAll(TaskSpecifications.matching(status, priority, q), pageable);
+    }
 
     @Query("SELECT t FROM Task t WHERE " +
            "(:status IS NULL OR t.status = :status) AND " +
            "(:priority IS NULL OR t.priority = :priority) AND " +
-           "(:q IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :q, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :q, '%')))")
-    Page<Task> findTasks(
+           "(:q IS NULL OR t.titleLower LIKE LOWER(CONCAT('%', :q, '%')) OR t.descriptionLower LIKE LOWER(CONCAT('%', :q, '%')))")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamTasks(
             @Param("status") Task.Status status,
             @Param("priority") Task.Priority priority,
             @Param("q") String q,
-            Pageable pageable
+            Sort sort
     );
+
+    @Query("SELECT new com.example.tasksapp.dto.TaskResponse(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.id = :id")
+    @Transactional(readOnly = true)
+    Optional<TaskResponse> findResponseById(@Param("id") Long id);
+
+    @Query("SELECT new com.example.tasksapp.dto.TaskResponse(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt) " +
+           "FROM Task t WHERE t.id IN :ids")
+    @Transactional(readOnly = true)
+    List<TaskResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Ids of tasks that are not done, most recently updated first: the cache warm-up candidates.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.status <> com.example.tasksapp.model.Task.Status.DONE " +
+           "ORDER BY t.updatedAt DESC")
+    @Transactional(readOnly = true)
+    List<Long> findActiveIdsByRecentUpdate(Pageable pageable);
+
+    @Query("SELECT t.updatedAt FROM Task t WHERE t.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    /**
+     * Tasks that are not done and due on or after {@code from}, read with a range scan of the
+     * due-date index: the due-date scheduler's state at startup.
+     */
+    @Query("SELECT new com.example.tasksapp.repository.TaskDueDate(t.id, t.status, t.priority, t.dueDate) " +
+           "FROM Task t WHERE t.dueDate >= :from AND t.status <> com.example.tasksapp.model.Task.Status.DONE")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TaskDueDate> streamDueFrom(@Param("from") LocalDate from);
+
+    @Query("SELECT new com.example.tasksapp.repository.TaskDueDate(t.id, t.status, t.priority, t.dueDate) " +
+           "FROM Task t WHERE t.id IN :ids")
+    List<TaskDueDate> findDueDatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Task counts grouped by status, priority and, for tasks that are not done, due date: the
+     * source of {@code TaskFacetCounter}. The due-date grouping is bounded by the number of
+     * distinct due dates in use, not by the number of tasks.
+     */
+    @Query("SELECT new com.example.tasksapp.repository.TaskFacetCount(t.status, t.priority, " +
+           "CASE WHEN t.status <> com.example.tasksapp.model.Task.Status.DONE THEN t.dueDate END, COUNT(t)) " +
+           "FROM Task t GROUP BY t.status, t.priority, " +
+           "CASE WHEN t.status <> com.example.tasksapp.model.Task.Status.DONE THEN t.dueDate END")
+    @Transactional(readOnly = true)
+    List<TaskFacetCount> countFacets();
+
+    @Query("SELECT new com.example.tasksapp.event.TaskSnapshot(" +
+           "t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt) " +
+           "FROM Task t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TaskSnapshot> streamSnapshots();
 }
@@ -0,0 +1,33 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+
+/**
+ * Column list and row mapper shared by the plain-JDBC queries on the tasks table.
+ */
+final class TaskRows {
+
+    static final String COLUMNS =
+            "id, title, description, status, priority, due_date, created_at, updated_at";
+
+    static final RowMapper<TaskSnapshot> SNAPSHOT_MAPPER = (rs, rowNum) -> {
+        String priority = rs.getString("priority");
+        Date dueDate = rs.getDate("due_date");
+        return new TaskSnapshot(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                Task.Status.valueOf(rs.getString("status")),
+                priority != null ? Task.Priority.valueOf(priority) : null,
+                dueDate != null ? dueDate.toLocalDate() : null,
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("updated_at").toLocalDateTime());
+    };
+
+    private TaskRows() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(Task.Status status, Task.Priority priority, String q) {
+        return Specification.allOf(hasStatus(status), hasPriority(priority), containsText(q));
+    }
+
+    public static Specification<Task> hasStatus(Task.Status status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(Task.Priority priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> containsText(String q) {
+        return (root, query, cb) -> {
+            if (!StringUtils.hasText(q)) {
+                return null;
+            }
+            String pattern = "%" + q.toLowerCase(Locale.ROOT) + "%";
+            return cb.or(
+                    cb.like(root.get("titleLower"), pattern),
+                    cb.like(root.get("descriptionLower"), pattern)
+            );
+        };
+    }
+}
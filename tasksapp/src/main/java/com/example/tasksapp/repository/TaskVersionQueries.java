@@ -0,0 +1,13 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.model.Task;
+
+public interface TaskVersionQueries {
+
+    /**
+     * Count and latest {@code updatedAt} of the tasks matching the filters, in one aggregate
+     * query over the same predicates as {@link TaskRepository#findTasks}.
+     */
+    TaskVersion findVersion(Task.Status status, Task.Priority priority, String q);
+}
@@ -0,0 +1,38 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+class TaskVersionQueriesImpl implements TaskVersionQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public TaskVersion findVersion(Task.Status status, Task.Priority priority, String q) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Expression<Long> count = cb.count(root);
+        Expression<LocalDateTime> lastModified = cb.greatest(root.<LocalDateTime>get("updatedAt"));
+        query.multiselect(count, lastModified);
+
+        Predicate predicate = TaskSpecifications.matching(status, priority, q).toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple result = entityManager.createQuery(query).getSingleResult();
+        return new TaskVersion(result.get(count), result.get(lastModified));
+    }
+}
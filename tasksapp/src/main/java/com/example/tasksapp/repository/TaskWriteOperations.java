@@ -0,0 +1,25 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Single-statement writes that skip loading the entity. Both publish the same
+ * {@link com.example.tasksapp.event.TaskChangedEvent}s as the JPA lifecycle callbacks.
+ */
+public interface TaskWriteOperations {
+
+    /**
+     * Updates only the non-null fields of {@code request} plus {@code updated_at}.
+     *
+     * @return the row after the update, or empty if no task has this id
+     */
+    Optional<TaskSnapshot> patchById(Long id, TaskUpdateRequest request);
+
+    /**
+     * @return whether a row was deleted
+     */
+    boolean removeById(Long id);
+}
@@ -0,0 +1,102 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Uses H2's {@code OLD TABLE (...)} data change delta table so that one statement both writes
+ * the row and returns its previous state, which the change events need. The JDBC template joins
+ * the surrounding JPA transaction, so the events still fire only after commit.
+ */
+@RequiredArgsConstructor
+class TaskWriteOperationsImpl implements TaskWriteOperations {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangeHorizon changeHorizon;
+
+    @Override
+    public Optional<TaskSnapshot> patchById(Long id, TaskUpdateRequest request) {
+        if (request.getTitle() != null && !StringUtils.hasText(request.getTitle())) {
+            throw new IllegalArgumentException("Title is required");
+        }
+
+        // Matches the TIMESTAMP(6) column, so the returned snapshot equals what a re-read would see
+        LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<String> assignments = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("id", id)
+                .addValue("updatedAt", Timestamp.valueOf(updatedAt));
+        if (request.getTitle() != null) {
+            assignments.add("title = :title");
+            params.addValue("title", request.getTitle());
+        }
+        if (request.getDescription() != null) {
+            assignments.add("description = :description");
+            params.addValue("description", request.getDescription());
+        }
+        if (request.getStatus() != null) {
+            assignments.add("status = :status");
+            params.addValue("status", request.getStatus().name());
+        }
+        if (request.getPriority() != null) {
+            assignments.add("priority = :priority");
+            params.addValue("priority", request.getPriority().name());
+        }
+        if (request.getDueDate() != null) {
+            assignments.add("due_date = :dueDate");
+            params.addValue("dueDate", Date.valueOf(request.getDueDate()));
+        }
+        assignments.add("updated_at = :updatedAt");
+
+        changeHorizon.joinCurrentTransaction();
+        List<TaskSnapshot> rows = jdbcTemplate.query(
+                "SELECT " + TaskRows.COLUMNS + " FROM OLD TABLE (UPDATE tasks SET " +
+                String.join(", ", assignments) + " WHERE id = :id)",
+                params, TaskRows.SNAPSHOT_MAPPER);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TaskSnapshot before = rows.get(0);
+        TaskSnapshot after = new TaskSnapshot(
+                before.id(),
+                request.getTitle() != null ? request.getTitle() : before.title(),
+                request.getDescription() != null ? request.getDescription() : before.description(),
+                request.getStatus() != null ? request.getStatus() : before.status(),
+                request.getPriority() != null ? request.getPriority() : before.priority(),
+                request.getDueDate() != null ? request.getDueDate() : before.dueDate(),
+                before.createdAt(),
+                updatedAt);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, after));
+        changeHorizon.holdPastListeners();
+        return Optional.of(after);
+    }
+
+    @Override
+    public boolean removeById(Long id) {
+        changeHorizon.joinCurrentTransaction();
+        List<TaskSnapshot> rows = jdbcTemplate.query(
+                "SELECT " + TaskRows.COLUMNS + " FROM OLD TABLE (DELETE FROM tasks WHERE id = :id)",
+                new MapSqlParameterSource("id", id), TaskRows.SNAPSHOT_MAPPER);
+        if (rows.isEmpty()) {
+            return false;
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(rows.get(0)));
+        changeHorizon.holdPastListeners();
+        return true;
+    }
+}
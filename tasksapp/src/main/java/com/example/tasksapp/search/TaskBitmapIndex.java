@@ -0,0 +1,379 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.mapper.EpochMicros;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory secondary index for list queries without a search term: a compressed bitmap
+ * of task ids per status and per priority, and the tasks of every status and priority pair ordered
+ * by {@code updatedAt}. Pages sorted by id are read by rank from the bitmap intersection; a page
+ * sorted by {@code updatedAt} merges the orderings of the pairs the filter selects, so every step
+ * lands on a matching task, and totals are the sizes of those orderings. Like {@link TaskSearchIndex}, it follows
+ * committed changes and is rebuilt from the database on startup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskBitmapIndex {
+
+    private static final String UPDATED_AT = "updatedAt";
+    private static final String ID = "id";
+    private static final Task.Status[] STATUSES = Task.Status.values();
+    // Tasks without a priority get the last column
+    private static final int PRIORITY_COLUMNS = Task.Priority.values().length + 1;
+
+    private final TaskRepository taskRepository;
+
+    @Value("${tasks.query.bitmap-index.enabled:false}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byStatus = bitmaps(STATUSES.length);
+    private final RoaringBitmap[] byPriority = bitmaps(PRIORITY_COLUMNS - 1);
+    private final List<NavigableSet<OrderKey>> byUpdatedAt = orderings(STATUSES.length * PRIORITY_COLUMNS);
+    private final LongColumn updatedAtById = new LongColumn();
+    private volatile boolean ready;
+    // Set when a task id does not fit the int bitmaps; queries go to the database from then on
+    private volatile boolean overflowed;
+
+    public boolean isReady() {
+        return enabled && ready && !overflowed;
+    }
+
+    /**
+     * Whether {@link #query} can order a page this way: unsorted, or by {@code updatedAt} or id alone.
+     */
+    public boolean supports(Pageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().toList();
+        return orders.isEmpty()
+                || orders.size() == 1 && (UPDATED_AT.equals(orders.get(0).getProperty()) || ID.equals(orders.get(0).getProperty()));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try (Stream<TaskSnapshot> snapshots = taskRepository.streamSnapshots()) {
+            rebuild(snapshots);
+        }
+    }
+
+    public void rebuild(Stream<TaskSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            long start = System.nanoTime();
+            clearUnderLock();
+            snapshots.forEach(this::addUnderLock);
+            all.runOptimize();
+            Arrays.stream(byStatus).forEach(RoaringBitmap::runOptimize);
+            Arrays.stream(byPriority).forEach(RoaringBitmap::runOptimize);
+            ready = true;
+            log.info("Bitmap index built with {} tasks in {} ms", all.getCardinality(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.after() == null) {
+            remove(event.id());
+        } else {
+            index(event.after());
+        }
+    }
+
+    public void index(TaskSnapshot task) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(task.id());
+            addUnderLock(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One page of the ids of tasks matching the optional filters, in the pageable's order
+     * (ties on {@code updatedAt} broken by id in the same direction), with the exact total.
+     */
+    public Page<Long> query(Task.Status status, Task.Priority priority, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc(ID));
+        lock.readLock().lock();
+        try {
+            int total = count(status, priority);
+            if (pageable.getOffset() >= total) {
+                return new PageImpl<>(List.of(), pageable, total);
+            }
+            int from = (int) pageable.getOffset();
+            int to = (int) Math.min(total, pageable.getOffset() + pageable.getPageSize());
+            List<Long> ids = ID.equals(order.getProperty())
+                    ? byRank(matching(status, priority), total, from, to, order.isAscending())
+                    : byUpdatedAt(status, priority, from, to, order.isAscending());
+            return new PageImpl<>(ids, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Validators of the filtered set, as {@code TaskRepository.findVersion} would compute them.
+     */
+    public TaskVersion version(Task.Status status, Task.Priority priority) {
+        lock.readLock().lock();
+        try {
+            int total = count(status, priority);
+            if (total == 0) {
+                return TaskVersion.EMPTY;
+            }
+            long latest = Long.MIN_VALUE;
+            for (NavigableSet<OrderKey> cell : cells(status, priority)) {
+                if (!cell.isEmpty()) {
+                    latest = Math.max(latest, cell.last().updatedAt());
+                }
+            }
+            return new TaskVersion(total, EpochMicros.toLocalDateTime(latest, Long.MIN_VALUE));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sum of the selected pairs' ordering sizes. Equal to the cardinality of the bitmap
+     * intersection, but constant time where intersecting sparse ids is linear in their number.
+     */
+    private int count(Task.Status status, Task.Priority priority) {
+        int count = 0;
+        for (NavigableSet<OrderKey> cell : cells(status, priority)) {
+            count += cell.size();
+        }
+        return count;
+    }
+
+    private RoaringBitmap matching(Task.Status status, Task.Priority priority) {
+        if (status != null && priority != null) {
+            return RoaringBitmap.and(byStatus[status.ordinal()], byPriority[priority.ordinal()]);
+        }
+        if (status != null) {
+            return byStatus[status.ordinal()];
+        }
+        if (priority != null) {
+            return byPriority[priority.ordinal()];
+        }
+        return all;
+    }
+
+    private static List<Long> byRank(RoaringBitmap matching, int total, int from, int to, boolean ascending) {
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int rank = from; rank < to; rank++) {
+            ids.add((long) matching.select(ascending ? rank : total - 1 - rank));
+        }
+        return ids;
+    }
+
+    /**
+     * Merges the orderings of the selected status and priority pairs, skipping {@code from} tasks.
+     */
+    private List<Long> byUpdatedAt(Task.Status status, Task.Priority priority, int from, int to, boolean ascending) {
+        Comparator<OrderKey> order = ascending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> order.compare(a.head, b.head));
+        for (NavigableSet<OrderKey> cell : cells(status, priority)) {
+            Iterator<OrderKey> it = ascending ? cell.iterator() : cell.descendingIterator();
+            if (it.hasNext()) {
+                heads.add(new Cursor(it, it.next()));
+            }
+        }
+
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int position = 0; position < to && !heads.isEmpty(); position++) {
+            Cursor cursor = heads.poll();
+            if (position >= from) {
+                ids.add((long) cursor.head.id());
+            }
+            if (cursor.it.hasNext()) {
+                cursor.head = cursor.it.next();
+                heads.add(cursor);
+            }
+        }
+        return ids;
+    }
+
+    private List<NavigableSet<OrderKey>> cells(Task.Status status, Task.Priority priority) {
+        List<NavigableSet<OrderKey>> cells = new ArrayList<>();
+        for (Task.Status s : STATUSES) {
+            for (int column = 0; column < PRIORITY_COLUMNS; column++) {
+                if ((status == null || status == s) && (priority == null || priority.ordinal() == column)) {
+                    cells.add(byUpdatedAt.get(cell(s, column)));
+                }
+            }
+        }
+        return cells;
+    }
+
+    private static int cell(Task.Status status, int priorityColumn) {
+        return status.ordinal() * PRIORITY_COLUMNS + priorityColumn;
+    }
+
+    private void addUnderLock(TaskSnapshot task) {
+        if (task.id() > Integer.MAX_VALUE) {
+            if (!overflowed) {
+                log.warn("Task id {} does not fit the bitmap index, list queries fall back to the database", task.id());
+            }
+            overflowed = true;
+            return;
+        }
+        int id = task.id().intValue();
+        long updatedAt = EpochMicros.of(task.updatedAt(), Long.MIN_VALUE);
+        int priorityColumn = task.priority() != null ? task.priority().ordinal() : PRIORITY_COLUMNS - 1;
+        all.add(id);
+        byStatus[task.status().ordinal()].add(id);
+        if (task.priority() != null) {
+            byPriority[priorityColumn].add(id);
+        }
+        updatedAtById.set(id, updatedAt);
+        byUpdatedAt.get(cell(task.status(), priorityColumn)).add(new OrderKey(updatedAt, id));
+    }
+
+    private void removeUnderLock(Long taskId) {
+        if (taskId > Integer.MAX_VALUE || !all.contains(taskId.intValue())) {
+            return;
+        }
+        int id = taskId.intValue();
+        Task.Status status = STATUSES[0];
+        for (Task.Status candidate : STATUSES) {
+            if (byStatus[candidate.ordinal()].checkedRemove(id)) {
+                status = candidate;
+            }
+        }
+        int priorityColumn = PRIORITY_COLUMNS - 1;
+        for (int column = 0; column < byPriority.length; column++) {
+            if (byPriority[column].checkedRemove(id)) {
+                priorityColumn = column;
+            }
+        }
+        all.remove(id);
+        byUpdatedAt.get(cell(status, priorityColumn)).remove(new OrderKey(updatedAtById.get(id), id));
+    }
+
+    private void clearUnderLock() {
+        all.clear();
+        Arrays.stream(byStatus).forEach(RoaringBitmap::clear);
+        Arrays.stream(byPriority).forEach(RoaringBitmap::clear);
+        byUpdatedAt.forEach(NavigableSet::clear);
+        overflowed = false;
+    }
+
+    private static RoaringBitmap[] bitmaps(int count) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        Arrays.setAll(bitmaps, i -> new RoaringBitmap());
+        return bitmaps;
+    }
+
+    private static List<NavigableSet<OrderKey>> orderings(int count) {
+        List<NavigableSet<OrderKey>> orderings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orderings.add(new TreeSet<>());
+        }
+        return orderings;
+    }
+
+    private static final class Cursor {
+
+        private final Iterator<OrderKey> it;
+        private OrderKey head;
+
+        private Cursor(Iterator<OrderKey> it, OrderKey head) {
+            this.it = it;
+            this.head = head;
+        }
+    }
+
+    private record OrderKey(long updatedAt, int id) implements Comparable<OrderKey> {
+
+        @Override
+        public int compareTo(OrderKey other) {
+            int byTime = Long.compare(updatedAt, other.updatedAt);
+            return byTime != 0 ? byTime : Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * {@code long} per task id, in 64K-entry pages allocated on first use, so sequence ids cost
+     * 8 bytes each without an array sized for the largest id.
+     */
+    static final class LongColumn {
+
+        private static final int PAGE_BITS = 16;
+        private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+        private final long[][] pages = new long[1 << (31 - PAGE_BITS)][];
+
+        long get(int id) {
+            long[] page = pages[id >>> PAGE_BITS];
+            return page != null ? page[id & PAGE_MASK] : 0;
+        }
+
+        void set(int id, long value) {
+            long[] page = pages[id >>> PAGE_BITS];
+            if (page == null) {
+                page = new long[1 << PAGE_BITS];
+                pages[id >>> PAGE_BITS] = page;
+            }
+            page[id & PAGE_MASK] = value;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.mapper.EpochMicros;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.example.tasksapp.repository.TaskChangeLog;
+import com.example.tasksapp.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over task titles and descriptions. Query terms are matched as
+ * prefixes of indexed tokens, every term must match, and hits are ranked by a tf-idf style
+ * score where title tokens weigh more than description tokens.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int SNAPSHOT_MAGIC = 0x54534958;
+    private static final int SNAPSHOT_FORMAT = 1;
+    private static final int REPLAY_BATCH = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeLog changeLog;
+    private final TaskChangeHorizon changeHorizon;
+
+    @Value("${tasks.search.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${tasks.search.index.snapshot-file:}")
+    private String snapshotFile;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedTask> documents = new HashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled || loadSnapshot()) {
+            return;
+        }
+        try (Stream<TaskSnapshot> snapshots = taskRepository.streamSnapshots()) {
+            rebuild(snapshots);
+        }
+    }
+
+    /**
+     * Writes the index to {@code tasks.search.index.snapshot-file} on shutdown, tagged with the
+     * change horizon, so the next start can load it instead of re-reading every task. A write
+     * still open here may commit below the latest change number after its event missed the
+     * index; the horizon stays below it, so the next start replays it.
+     */
+    @PreDestroy
+    public void saveSnapshot() {
+        if (!isReady() || !StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        Path path = Path.of(snapshotFile);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            long start = System.nanoTime();
+            long watermark = changeHorizon.horizon(changeLog.latestChangeSeq());
+            lock.readLock().lock();
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+                writeUnderLock(out, watermark);
+            } finally {
+                lock.readLock().unlock();
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Search index snapshot of {} tasks written to {} in {} ms", documents.size(), path,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write search index snapshot {}", path, e);
+        }
+    }
+
+    /**
+     * Loads the snapshot written by the last shutdown and replays the tasks and tombstones
+     * changed since its watermark. Returns false, leaving the index empty, when there is no
+     * usable snapshot: it is ahead of the database, or does not add up to the same task count
+     * (e.g. the database file was replaced underneath it).
+     */
+    private boolean loadSnapshot() {
+        if (!StringUtils.hasText(snapshotFile) || !Files.isRegularFile(Path.of(snapshotFile))) {
+            return false;
+        }
+        Path path = Path.of(snapshotFile);
+        lock.writeLock().lock();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            long start = System.nanoTime();
+            long watermark = readUnderLock(in);
+            long latest = changeLog.latestChangeSeq();
+            if (watermark > latest) {
+                log.warn("Search index snapshot {} is ahead of the database ({} > {}), rebuilding",
+                        path, watermark, latest);
+                clearUnderLock();
+                return false;
+            }
+            int replayed = replayUnderLock(watermark);
+            long tasks = taskRepository.count();
+            if (documents.size() != tasks) {
+                log.warn("Search index snapshot {} holds {} tasks but the database {}, rebuilding",
+                        path, documents.size(), tasks);
+                clearUnderLock();
+                return false;
+            }
+            ready = true;
+            log.info("Search index loaded with {} tasks from {} ({} changes replayed) in {} ms",
+                    documents.size(), path, replayed, (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read search index snapshot {}, rebuilding", path, e);
+            clearUnderLock();
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(Stream<TaskSnapshot> snapshots) {
+        lock.writeLock().lock();
+        try {
+            long start = System.nanoTime();
+            clearUnderLock();
+            snapshots.forEach(this::addUnderLock);
+            ready = true;
+            log.info("Search index built with {} tasks in {} ms", documents.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.after() == null) {
+            remove(event.id());
+        } else {
+            index(event.after());
+        }
+    }
+
+    public void index(TaskSnapshot task) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(task.id());
+            addUnderLock(task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnderLock(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all tasks matching every term of {@code q} and the optional
+     * status/priority filters, best match first. Ties are broken by most recently updated.
+     */
+    public List<Long> search(String q, Task.Status status, Task.Priority priority) {
+        List<String> terms = SearchTokenizer.tokenize(q);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = scoreTerm(term, status, priority, scores);
+                if (termScores.isEmpty()) {
+                    return List.of();
+                }
+                Map<Long, Double> previous = scores;
+                if (previous != null) {
+                    termScores.replaceAll((id, score) -> score + previous.get(id));
+                }
+                scores = termScores;
+            }
+
+            Map<Long, Double> ranked = scores;
+            List<Long> ids = new ArrayList<>(ranked.keySet());
+            ids.sort(Comparator.<Long>comparingDouble(ranked::get).reversed()
+                    .thenComparing(id -> documents.get(id).updatedAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Comparator.reverseOrder()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Latest {@code updatedAt} among the given indexed tasks, or null if none has one.
+     */
+    public LocalDateTime lastModified(List<Long> ids) {
+        lock.readLock().lock();
+        try {
+            LocalDateTime latest = null;
+            for (Long id : ids) {
+                IndexedTask doc = documents.get(id);
+                if (doc != null && doc.updatedAt() != null && (latest == null || doc.updatedAt().isAfter(latest))) {
+                    latest = doc.updatedAt();
+                }
+            }
+            return latest;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term, Task.Status status, Task.Priority priority,
+                                        Map<Long, Double> candidates) {
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = Math.max(documents.size(), 1);
+
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(term, true).entrySet()) {
+            String token = entry.getKey();
+            if (!token.startsWith(term)) {
+                break;
+            }
+            Map<Long, Integer> docs = entry.getValue();
+            double idf = Math.log(1.0 + (double) documentCount / docs.size());
+            double factor = token.length() == term.length() ? 1.0 : PREFIX_MATCH_FACTOR;
+
+            for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                Long id = posting.getKey();
+                if (candidates != null && !candidates.containsKey(id)) {
+                    continue;
+                }
+                IndexedTask doc = documents.get(id);
+                if ((status != null && doc.status() != status) || (priority != null && doc.priority() != priority)) {
+                    continue;
+                }
+                scores.merge(id, posting.getValue() * idf * factor, Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private void addUnderLock(TaskSnapshot task) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(task.title())) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(task.description())) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+
+        weights.forEach((token, weight) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(task.id(), weight));
+        documents.put(task.id(), new IndexedTask(weights.keySet().toArray(String[]::new),
+                task.status(), task.priority(), task.updatedAt()));
+    }
+
+    private void clearUnderLock() {
+        postings.clear();
+        documents.clear();
+    }
+
+    private int replayUnderLock(long watermark) {
+        int replayed = 0;
+        List<TaskChangeLog.ChangedTask> changed;
+        long since = watermark;
+        do {
+            changed = changeLog.findChangedSince(since, REPLAY_BATCH);
+            for (TaskChangeLog.ChangedTask change : changed) {
+                removeUnderLock(change.task().id());
+                addUnderLock(change.task());
+                since = change.changeSeq();
+            }
+            replayed += changed.size();
+        } while (changed.size() == REPLAY_BATCH);
+
+        List<TaskChangeLog.Tombstone> deleted;
+        since = watermark;
+        do {
+            deleted = changeLog.findDeletedSince(since, REPLAY_BATCH);
+            for (TaskChangeLog.Tombstone tombstone : deleted) {
+                removeUnderLock(tombstone.taskId());
+                since = tombstone.changeSeq();
+            }
+            replayed += deleted.size();
+        } while (deleted.size() == REPLAY_BATCH);
+        return replayed;
+    }
+
+    // Snapshot layout: header, the token dictionary, then per task its fields and (token index, weight) pairs
+    private void writeUnderLock(DataOutputStream out, long watermark) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_FORMAT);
+        out.writeLong(watermark);
+
+        Map<String, Integer> tokenIds = new HashMap<>(postings.size() * 2);
+        out.writeInt(postings.size());
+        for (String token : postings.keySet()) {
+            tokenIds.put(token, tokenIds.size());
+            out.writeUTF(token);
+        }
+
+        out.writeInt(documents.size());
+        for (Map.Entry<Long, IndexedTask> entry : documents.entrySet()) {
+            long id = entry.getKey();
+            IndexedTask doc = entry.getValue();
+            out.writeLong(id);
+            out.writeByte(doc.status().ordinal());
+            out.writeByte(doc.priority() != null ? doc.priority().ordinal() : -1);
+            out.writeLong(EpochMicros.of(doc.updatedAt(), Long.MIN_VALUE));
+            out.writeInt(doc.tokens().length);
+            for (String token : doc.tokens()) {
+                out.writeInt(tokenIds.get(token));
+                out.writeInt(postings.get(token).get(id));
+            }
+        }
+    }
+
+    private long readUnderLock(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT) {
+            throw new IOException("Not a search index snapshot");
+        }
+        long watermark = in.readLong();
+        clearUnderLock();
+
+        String[] tokens = new String[in.readInt()];
+        List<Map<Long, Integer>> tokenPostings = new ArrayList<>(tokens.length);
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = in.readUTF();
+            tokenPostings.add(new HashMap<>());
+        }
+
+        Task.Status[] statuses = Task.Status.values();
+        Task.Priority[] priorities = Task.Priority.values();
+        int documentCount = in.readInt();
+        for (int i = 0; i < documentCount; i++) {
+            long id = in.readLong();
+            Task.Status status = statuses[in.readByte()];
+            byte priority = in.readByte();
+            long updatedAt = in.readLong();
+            String[] docTokens = new String[in.readInt()];
+            for (int t = 0; t < docTokens.length; t++) {
+                int tokenId = in.readInt();
+                docTokens[t] = tokens[tokenId];
+                tokenPostings.get(tokenId).put(id, in.readInt());
+            }
+            documents.put(id, new IndexedTask(docTokens, status, priority >= 0 ? priorities[priority] : null,
+                    EpochMicros.toLocalDateTime(updatedAt, Long.MIN_VALUE)));
+        }
+        for (int i = 0; i < tokens.length; i++) {
+            if (!tokenPostings.get(i).isEmpty()) {
+                postings.put(tokens[i], tokenPostings.get(i));
+            }
+        }
+        return watermark;
+    }
+
+    private void removeUnderLock(Long id) {
+        IndexedTask existing = documents.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String token : existing.tokens()) {
+            Map<Long, Integer> docs = postings.get(token);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private record IndexedTask(String[] tokens, Task.Status status, Task.Priority priority, LocalDateTime updatedAt) {
+    }
+}
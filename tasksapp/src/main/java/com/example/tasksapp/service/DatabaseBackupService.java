@@ -0,0 +1,176 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.BackupResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Online backups of the file-backed database (durable profile). {@code BACKUP TO} copies a
+ * consistent state of the store into a zip while reads and writes carry on; restoring one is
+ * an unzip before the database is opened (see {@code DurableStorageConfig}), with no SQL replay.
+ */
+@Slf4j
+@Service
+@Profile("durable")
+public class DatabaseBackupService implements SmartLifecycle {
+
+    static final String BACKUP_PREFIX = "taskdb-";
+    static final String BACKUP_SUFFIX = ".zip";
+    public static final String INDEX_ENTRY = "search-index.bin";
+    private static final DateTimeFormatter BACKUP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path backupDir;
+    private final int retention;
+    private final Duration interval;
+    private final String indexSnapshot;
+    private final Lock backupLock = new ReentrantLock();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public DatabaseBackupService(JdbcTemplate jdbcTemplate,
+                                 @Value("${tasks.storage.backup-dir:./data/backups}") Path backupDir,
+                                 @Value("${tasks.storage.backup-retention:7}") int retention,
+                                 @Value("${tasks.storage.backup-interval:0}") Duration interval,
+                                 @Value("${tasks.search.index.snapshot-file:}") String indexSnapshot) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backupDir = backupDir;
+        this.retention = retention;
+        this.interval = interval;
+        this.indexSnapshot = indexSnapshot;
+    }
+
+    /**
+     * Writes a new backup and deletes the oldest ones beyond {@code tasks.storage.backup-retention}.
+     * The search index snapshot of the last shutdown goes into the zip too: it is older than the
+     * backed-up data, so after a restore it is caught up by change_seq instead of rebuilt. The zip
+     * only appears under its final name once complete, so a crash never leaves a partial backup.
+     */
+    public BackupResponse backup() {
+        backupLock.lock();
+        try {
+            Files.createDirectories(backupDir);
+            String name = BACKUP_PREFIX + LocalDateTime.now().format(BACKUP_TIMESTAMP) + BACKUP_SUFFIX;
+            Path target = backupDir.resolve(name);
+            Path temp = backupDir.resolve(name + ".tmp");
+
+            long start = System.nanoTime();
+            jdbcTemplate.execute("BACKUP TO '" + temp.toAbsolutePath().toString().replace("'", "''") + "'");
+            if (StringUtils.hasText(indexSnapshot) && Files.isRegularFile(Path.of(indexSnapshot))) {
+                try (FileSystem zip = FileSystems.newFileSystem(temp)) {
+                    Files.copy(Path.of(indexSnapshot), zip.getPath(INDEX_ENTRY));
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Database backed up to {} ({} bytes) in {} ms", target, Files.size(target),
+                    (System.nanoTime() - start) / 1_000_000);
+
+            List<Path> backups = backupFiles();
+            for (Path old : backups.subList(0, Math.max(0, backups.size() - retention))) {
+                Files.deleteIfExists(old);
+            }
+            return toResponse(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not back up the database", e);
+        } finally {
+            backupLock.unlock();
+        }
+    }
+
+    /**
+     * Backups in the backup directory, newest first.
+     */
+    public List<BackupResponse> listBackups() {
+        try {
+            return backupFiles().reversed().stream().map(this::toResponse).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list backups", e);
+        }
+    }
+
+    /**
+     * Backup zips in {@code dir}, oldest first (their names sort by creation time).
+     */
+    public static List<Path> backupFiles(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(BACKUP_PREFIX) && name.endsWith(BACKUP_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        }
+    }
+
+    private List<Path> backupFiles() throws IOException {
+        return backupFiles(backupDir);
+    }
+
+    private BackupResponse toResponse(Path file) {
+        try {
+            return new BackupResponse(file.getFileName().toString(), Files.size(file),
+                    LocalDateTime.ofInstant(Files.getLastModifiedTime(file).toInstant(), ZoneId.systemDefault()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!interval.isZero() && !interval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("database-backup").daemon().factory());
+            long millis = interval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    backup();
+                } catch (RuntimeException e) {
+                    log.warn("Scheduled database backup failed", e);
+                }
+            }, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.ImportError;
+import com.example.tasksapp.dto.ImportReport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of one import. Updated by the parsing and writing threads, read by status
+ * requests. Only the first {@code maxErrors} row errors are kept.
+ */
+class ImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final int maxErrors;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger keptErrors = new AtomicInteger();
+    private final Queue<ImportError> errors = new ConcurrentLinkedQueue<>();
+    private volatile ImportReport.State state = ImportReport.State.RUNNING;
+    private volatile LocalDateTime finishedAt;
+
+    ImportJob(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    boolean isRunning() {
+        return state == ImportReport.State.RUNNING;
+    }
+
+    void parsed() {
+        processed.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void rejected(long line, String message) {
+        failed.incrementAndGet();
+        if (keptErrors.incrementAndGet() <= maxErrors) {
+            errors.add(new ImportError(line, message));
+        }
+    }
+
+    void finish(ImportReport.State finalState) {
+        finishedAt = LocalDateTime.now();
+        state = finalState;
+    }
+
+    ImportReport report() {
+        return new ImportReport(id, state, startedAt, finishedAt, processed.get(), imported.get(),
+                failed.get(), List.copyOf(errors));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.ReactiveTaskRepository;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+/**
+ * Reactive counterpart of {@link TaskService} and {@link TaskExportService}. Writes publish the
+ * same {@link TaskChangedEvent}s as the JPA entity listener, so the search index and caches stay
+ * in step whichever stack changed a task. The listeners take locks and walk caches, so events are
+ * published on the bounded elastic scheduler rather than the event loop, and the response waits
+ * for them as the servlet stack's does. Every write holds a {@link TaskChangeHorizon} ticket until
+ * it has committed and published its event, and a deletion writes its tombstone in the deleting transaction.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskService {
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionalOperator transactionalOperator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangeHorizon changeHorizon;
+    private final ObjectWriter csvRowWriter;
+    private final String csvHeader;
+    private final ObjectWriter jsonWriter;
+
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository,
+                               TaskMapper taskMapper,
+                               TransactionalOperator transactionalOperator,
+                               ApplicationEventPublisher eventPublisher,
+                               TaskChangeHorizon changeHorizon,
+                               ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.transactionalOperator = transactionalOperator;
+        this.eventPublisher = eventPublisher;
+        this.changeHorizon = changeHorizon;
+
+        CsvMapper csvMapper = TaskExportService.csvMapper();
+        CsvSchema schema = csvMapper.schemaFor(TaskResponse.class);
+        StringJoiner header = new StringJoiner(",", "", "\n");
+        schema.forEach(column -> header.add(column.getName()));
+        this.csvHeader = header.toString();
+        this.csvRowWriter = csvMapper.writer(schema);
+        this.jsonWriter = objectMapper.writerFor(TaskResponse.class);
+    }
+
+    public Mono<Page<TaskResponse>> getTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        return Mono.zip(streamPage(status, priority, q, pageable).collectList(),
+                        taskRepository.countTasks(status, priority, q))
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    public Flux<TaskResponse> streamPage(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        return taskRepository.findTasks(status, priority, q, pageable).map(taskMapper::toResponse);
+    }
+
+    public Mono<TaskResponse> getTaskById(Long id) {
+        return taskRepository.findById(id).map(taskMapper::toResponse);
+    }
+
+    public Mono<TaskResponse> createTask(TaskCreateRequest request) {
+        Task task = taskMapper.toEntity(request);
+        LocalDateTime now = LocalDateTime.now();
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return withinHorizon(taskRepository.insert(task)
+                        .flatMap(saved -> publish(TaskChangedEvent.created(TaskSnapshot.of(saved))).thenReturn(saved)))
+                .map(taskMapper::toResponse);
+    }
+
+    /**
+     * Empty when the task does not exist.
+     */
+    public Mono<TaskResponse> updateTask(Long id, TaskUpdateRequest request) {
+        return withinHorizon(taskRepository.findById(id)
+                .flatMap(task -> {
+                    TaskSnapshot before = TaskSnapshot.of(task);
+                    taskMapper.updateEntityFromRequest(task, request);
+                    task.setUpdatedAt(LocalDateTime.now());
+                    return taskRepository.update(task)
+                            .map(updated -> TaskChangedEvent.updated(before, TaskSnapshot.of(updated)));
+                })
+                .as(transactionalOperator::transactional)
+                .flatMap(this::publish))
+                .flatMap(event -> taskRepository.findById(id))
+                .map(taskMapper::toResponse);
+    }
+
+    /**
+     * Emits false when the task does not exist.
+     */
+    public Mono<Boolean> deleteTask(Long id) {
+        return withinHorizon(taskRepository.findById(id)
+                .flatMap(task -> taskRepository.deleteById(id)
+                        .filter(deleted -> deleted > 0)
+                        .flatMap(deleted -> taskRepository.recordDeletion(id, LocalDateTime.now())
+                                .thenReturn(TaskChangedEvent.deleted(TaskSnapshot.of(task)))))
+                .as(transactionalOperator::transactional)
+                .flatMap(this::publish))
+                .hasElement();
+    }
+
+    /**
+     * Holds a horizon ticket, opened before any change number is taken, until {@code write}
+     * has committed or failed and published its event.
+     */
+    private <T> Mono<T> withinHorizon(Mono<T> write) {
+        return Mono.usingWhen(taskRepository.latestChangeSeq().map(changeHorizon::open),
+                ticket -> write,
+                ticket -> Mono.fromRunnable(() -> changeHorizon.close(ticket)));
+    }
+
+    private Mono<TaskChangedEvent> publish(TaskChangedEvent event) {
+        return Mono.fromRunnable(() -> eventPublisher.publishEvent(event))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(event);
+    }
+
+    public Flux<String> export(Task.Status status, Task.Priority priority, String q, Sort sort,
+                               TaskFileFormat format) {
+        Flux<String> rows = taskRepository.streamTasks(status, priority, q, sort)
+                .map(taskMapper::toResponse)
+                .map(response -> format == TaskFileFormat.CSV ? csvRow(response) : jsonLine(response));
+        return format == TaskFileFormat.CSV ? Flux.concat(Mono.just(csvHeader), rows) : rows;
+    }
+
+    private String csvRow(TaskResponse response) {
+        try {
+            return csvRowWriter.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String jsonLine(TaskResponse response) {
+        try {
+            return jsonWriter.writeValueAsString(response) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
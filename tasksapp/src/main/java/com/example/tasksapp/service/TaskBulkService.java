@@ -0,0 +1,226 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.BulkItemResult;
+import com.example.tasksapp.dto.BulkResponse;
+import com.example.tasksapp.dto.TaskBulkUpdateRequest;
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies bulk requests in chunks, each chunk in its own transaction so that Hibernate can
+ * send the statements as JDBC batches. A failing chunk only fails its own items.
+ */
+@Slf4j
+@Service
+public class TaskBulkService {
+
+    // Logged with the exception; the SQL in its message is not for clients
+    private static final String CHUNK_FAILED = "Could not be saved; no item of its chunk was applied";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public TaskBulkService(TaskRepository taskRepository,
+                           TaskMapper taskMapper,
+                           Validator validator,
+                           CacheManager cacheManager,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${tasks.bulk.chunk-size:500}") int chunkSize,
+                           @Value("${tasks.bulk.max-items:10000}") int maxItems) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkResponse createTasks(List<TaskCreateRequest> requests) {
+        checkSize(requests);
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = failure(i, null, HttpStatus.BAD_REQUEST, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                List<Task> saved = transactionTemplate.execute(status -> {
+                    List<Task> tasks = chunk.stream().map(i -> taskMapper.toEntity(requests.get(i))).toList();
+                    List<Task> result = taskRepository.saveAll(tasks);
+                    taskRepository.flush();
+                    return result;
+                });
+                for (int j = 0; j < chunk.size(); j++) {
+                    Task task = saved.get(j);
+                    results[chunk.get(j)] = new BulkItemResult(chunk.get(j), task.getId(),
+                            HttpStatus.CREATED.value(), taskMapper.toResponse(task), null);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Bulk create chunk of {} items failed", chunk.size(), e);
+                chunk.forEach(i -> results[i] = failure(i, null, HttpStatus.INTERNAL_SERVER_ERROR, CHUNK_FAILED));
+            }
+        }
+        return BulkResponse.of(Arrays.asList(results));
+    }
+
+    public BulkResponse updateTasks(List<TaskBulkUpdateRequest> requests) {
+        checkSize(requests);
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskBulkUpdateRequest request = requests.get(i);
+            String error = request != null && request.getId() == null ? "Id is required" : validate(request);
+            if (error != null) {
+                results[i] = failure(i, request != null ? request.getId() : null, HttpStatus.BAD_REQUEST, error);
+            } else {
+                valid.add(i);
+            }
+        }
+
+        Cache taskById = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                Map<Long, Task> updated = transactionTemplate.execute(status -> {
+                    Set<Long> ids = chunk.stream().map(i -> requests.get(i).getId()).collect(Collectors.toSet());
+                    Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                            .collect(Collectors.toMap(Task::getId, Function.identity()));
+                    for (Integer i : chunk) {
+                        Task task = tasks.get(requests.get(i).getId());
+                        if (task != null) {
+                            taskMapper.updateEntityFromRequest(task, requests.get(i));
+                        }
+                    }
+                    taskRepository.flush();
+                    return tasks;
+                });
+                for (Integer i : chunk) {
+                    Long id = requests.get(i).getId();
+                    Task task = updated.get(id);
+                    if (task == null) {
+                        results[i] = failure(i, id, HttpStatus.NOT_FOUND, "Task not found with id: " + id);
+                        continue;
+                    }
+                    TaskResponse response = taskMapper.toResponse(task);
+                    if (taskById != null) {
+                        taskById.put(id, response);
+                    }
+                    results[i] = new BulkItemResult(i, id, HttpStatus.OK.value(), response, null);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Bulk update chunk of {} items failed", chunk.size(), e);
+                chunk.forEach(i -> results[i] = failure(i, requests.get(i).getId(),
+                        HttpStatus.INTERNAL_SERVER_ERROR, CHUNK_FAILED));
+            }
+        }
+        return BulkResponse.of(Arrays.asList(results));
+    }
+
+    public BulkResponse deleteTasks(List<Long> ids) {
+        checkSize(ids);
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+
+        List<Integer> valid = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) == null) {
+                results[i] = failure(i, null, HttpStatus.BAD_REQUEST, "Id is required");
+            } else {
+                valid.add(i);
+            }
+        }
+
+        Cache taskById = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                Set<Long> deleted = transactionTemplate.execute(status -> {
+                    List<Task> tasks = taskRepository.findAllById(chunk.stream().map(ids::get).collect(Collectors.toSet()));
+                    taskRepository.deleteAll(tasks);
+                    taskRepository.flush();
+                    return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+                });
+                Set<Long> reported = new HashSet<>();
+                for (Integer i : chunk) {
+                    Long id = ids.get(i);
+                    if (deleted.contains(id) && reported.add(id)) {
+                        if (taskById != null) {
+                            taskById.evict(id);
+                        }
+                        results[i] = new BulkItemResult(i, id, HttpStatus.NO_CONTENT.value(), null, null);
+                    } else {
+                        results[i] = failure(i, id, HttpStatus.NOT_FOUND, "Task not found with id: " + id);
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("Bulk delete chunk of {} items failed", chunk.size(), e);
+                chunk.forEach(i -> results[i] = failure(i, ids.get(i), HttpStatus.INTERNAL_SERVER_ERROR, CHUNK_FAILED));
+            }
+        }
+        return BulkResponse.of(Arrays.asList(results));
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("At most " + maxItems + " items are accepted per request");
+        }
+    }
+
+    private <T> String validate(T request) {
+        if (request == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += chunkSize) {
+            chunks.add(indexes.subList(from, Math.min(from + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+
+    private BulkItemResult failure(int index, Long id, HttpStatus status, String error) {
+        return new BulkItemResult(index, id, status.value(), null, error);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Preloads {@code taskById} on startup: the keys saved at the last shutdown first, then the most
+ * recently updated tasks that are not done, up to {@code tasks.cache.warmup.size}. It runs as an
+ * {@link ApplicationReadyEvent} listener, and Boot only switches readiness to ACCEPTING_TRAFFIC
+ * after those return, so readiness stays false until the warm-up finishes or its deadline passes.
+ * <p>
+ * Tasks updated or deleted while the warm-up runs are skipped: the rows loaded for them may
+ * predate the write, and a deleted task must not be cached again after its eviction.
+ */
+@Slf4j
+@Component
+public class TaskCacheWarmer {
+
+    private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int size;
+    private final int batchSize;
+    private final int parallelism;
+    private final Duration deadline;
+    private final String keyFile;
+
+    private final Lock lock = new ReentrantLock();
+    // Ids written while the warm-up runs; null when none is running
+    private Set<Long> changedWhileWarming;
+
+    public TaskCacheWarmer(TaskRepository taskRepository,
+                           CacheManager cacheManager,
+                           @Value("${tasks.cache.warmup.enabled:true}") boolean enabled,
+                           @Value("${tasks.cache.warmup.size:10000}") int size,
+                           @Value("${tasks.cache.warmup.batch-size:500}") int batchSize,
+                           @Value("${tasks.cache.warmup.parallelism:4}") int parallelism,
+                           @Value("${tasks.cache.warmup.deadline:30s}") Duration deadline,
+                           @Value("${tasks.cache.warmup.key-file:}") String keyFile) {
+        this.taskRepository = taskRepository;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.size = size;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.deadline = deadline;
+        this.keyFile = keyFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        warmUp();
+    }
+
+    /**
+     * Loads the warm-up ids in batches on {@code tasks.cache.warmup.parallelism} threads and
+     * returns once all are cached or {@code tasks.cache.warmup.deadline} has passed. Returns the
+     * number of tasks put into the cache by then.
+     */
+    public int warmUp() {
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        if (!enabled || size <= 0 || cache == null) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        List<Long> ids = warmupIds();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger loaded = new AtomicInteger();
+        lock.lock();
+        try {
+            changedWhileWarming = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+        ExecutorService loaders = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("task-cache-warmup-", 0).daemon().factory());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            loaders.execute(() -> {
+                List<TaskResponse> responses = taskRepository.findResponsesByIdIn(batch);
+                lock.lock();
+                try {
+                    // Null once the warm-up is over: a batch finishing late is dropped
+                    if (changedWhileWarming == null) {
+                        return;
+                    }
+                    for (TaskResponse response : responses) {
+                        if (!changedWhileWarming.contains(response.getId())) {
+                            // Entries cached by live requests in the meantime are at least as fresh
+                            cache.putIfAbsent(response.getId(), response);
+                            loaded.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            });
+        }
+        // No shutdownNow(): interrupting a JDBC call can close a file-backed H2 database, so
+        // batches still running at the deadline finish in the background, and their results are dropped
+        loaders.shutdown();
+        try {
+            if (!loaders.awaitTermination(deadline.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Cache warm-up hit its {} deadline with {} of {} tasks loaded", deadline, loaded.get(), ids.size());
+                return finish(loaded);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return finish(loaded);
+        }
+        log.info("Cache warm-up loaded {} tasks in {} ms", loaded.get(), (System.nanoTime() - start) / 1_000_000);
+        return finish(loaded);
+    }
+
+    /**
+     * Evicts a deleted task again if the warm-up cached it meanwhile, and keeps the warm-up from
+     * caching tasks written while it runs.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.CREATED) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (changedWhileWarming == null) {
+                return;
+            }
+            changedWhileWarming.add(event.id());
+            if (event.type() == TaskChangedEvent.Type.DELETED) {
+                Cache cache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+                if (cache != null) {
+                    cache.evict(event.id());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the {@code taskById} keys, hottest first, to {@code tasks.cache.warmup.key-file}.
+     */
+    @PreDestroy
+    public void saveKeys() {
+        if (!enabled || !StringUtils.hasText(keyFile)
+                || !(cacheManager.getCache(CacheConfig.TASK_BY_ID) instanceof CaffeineCache cache)) {
+            return;
+        }
+        Set<Object> keys = cache.getNativeCache().policy().eviction()
+                .map(eviction -> eviction.hottest(size).keySet())
+                .orElseGet(() -> cache.getNativeCache().asMap().keySet());
+        Path path = Path.of(keyFile);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.write(temp, keys.stream().limit(size).map(String::valueOf).toList());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} cached task ids to {}", Math.min(keys.size(), size), path);
+        } catch (IOException e) {
+            log.warn("Could not save cached task ids to {}", path, e);
+        }
+    }
+
+    private int finish(AtomicInteger loaded) {
+        lock.lock();
+        try {
+            changedWhileWarming = null;
+            return loaded.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Long> warmupIds() {
+        Set<Long> ids = new LinkedHashSet<>(savedKeys());
+        if (ids.size() < size) {
+            ids.addAll(taskRepository.findActiveIdsByRecentUpdate(PageRequest.of(0, size)));
+        }
+        return new ArrayList<>(ids).subList(0, Math.min(ids.size(), size));
+    }
+
+    private List<Long> savedKeys() {
+        if (!StringUtils.hasText(keyFile) || !Files.isRegularFile(Path.of(keyFile))) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(Path.of(keyFile)).stream()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty())
+                    .map(Long::valueOf)
+                    .toList();
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Ignoring unreadable cache key file {}", keyFile, e);
+            return List.of();
+        }
+    }
+}
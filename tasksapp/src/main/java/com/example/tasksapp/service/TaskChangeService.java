@@ -0,0 +1,106 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskChangesResponse;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskTombstoneResponse;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.example.tasksapp.repository.TaskChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Delta sync for offline clients: tasks created or updated and tasks deleted after a
+ * watermark, in change order. The watermark is the last {@code change_seq} handed out,
+ * wrapped in an opaque token. Changes above the {@link TaskChangeHorizon} are held back until
+ * the transactions that might still commit lower numbers have finished.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskChangeService {
+
+    private final TaskChangeLog changeLog;
+    private final TaskChangeHorizon changeHorizon;
+    private final TaskMapper taskMapper;
+
+    @Value("${tasks.changes.max-limit:1000}")
+    private int maxLimit;
+
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(String since, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+        long watermark = decode(since);
+        // Latest committed first, open transactions second: a writer that commits in between
+        // read its floor before that commit
+        long until = changeHorizon.horizon(changeLog.latestChangeSeq());
+
+        // One extra row per table tells whether anything is left after this batch
+        List<TaskChangeLog.ChangedTask> changed = changeLog.findChangedBetween(watermark, until, limit + 1);
+        List<TaskChangeLog.Tombstone> deleted = changeLog.findDeletedBetween(watermark, until, limit + 1);
+
+        // Merge both runs by change_seq and cut at limit, so the new watermark never skips an entry
+        List<TaskResponse> changedOut = new ArrayList<>();
+        List<TaskTombstoneResponse> deletedOut = new ArrayList<>();
+        int c = 0;
+        int d = 0;
+        while (changedOut.size() + deletedOut.size() < limit && (c < changed.size() || d < deleted.size())) {
+            if (d == deleted.size() || (c < changed.size() && changed.get(c).changeSeq() < deleted.get(d).changeSeq())) {
+                TaskChangeLog.ChangedTask entry = changed.get(c++);
+                changedOut.add(taskMapper.toResponse(entry.task()));
+                watermark = entry.changeSeq();
+            } else {
+                TaskChangeLog.Tombstone entry = deleted.get(d++);
+                deletedOut.add(new TaskTombstoneResponse(entry.taskId(), entry.deletedAt()));
+                watermark = entry.changeSeq();
+            }
+        }
+
+        boolean hasMore = c < changed.size() || d < deleted.size();
+        return new TaskChangesResponse(changedOut, deletedOut, encode(watermark), hasMore);
+    }
+
+    /**
+     * Runs synchronously inside the deleting JDBC transaction (including deletions flushed at
+     * commit), so a tombstone exists exactly when the delete commits. The reactive stack writes
+     * its tombstones in its own R2DBC transaction and publishes outside any JDBC transaction.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED && TransactionSynchronizationManager.isActualTransactionActive()) {
+            changeLog.recordDeletion(event.id(), LocalDateTime.now());
+        }
+    }
+
+    static String encode(long watermark) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(watermark).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        try {
+            long watermark = Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+            if (watermark < 0) {
+                throw new IllegalArgumentException("Invalid watermark");
+            }
+            return watermark;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid watermark", e);
+        }
+    }
+}
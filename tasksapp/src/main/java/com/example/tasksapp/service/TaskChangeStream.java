@@ -0,0 +1,280 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskStreamEvent;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskDueEvent;
+import com.example.tasksapp.event.TaskDueListener;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed task changes, and due-soon and overdue events, out to SSE subscribers. Each subscriber has a bounded buffer that
+ * is drained by a virtual thread only while it has something to send, so idle connections hold
+ * no thread and a slow client only ever blocks its own sender. A buffer that overflows is
+ * cleared and replaced by a single {@code resync} event, after which the client should re-fetch.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class TaskChangeStream implements SmartLifecycle, MeterBinder, TaskDueListener {
+
+    static final String TASK_EVENT = "task";
+    static final String RESYNC_EVENT = "resync";
+    static final String DUE_EVENT = "due";
+
+    private static final Set<DataWithMediaType> RESYNC = SseEmitter.event().name(RESYNC_EVENT).data("").build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+    private static final Set<DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration heartbeatInterval;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong resyncs = new AtomicLong();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory());
+    private ScheduledExecutorService heartbeats;
+    private volatile boolean running;
+
+    public TaskChangeStream(TaskMapper taskMapper,
+                            ObjectMapper objectMapper,
+                            @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                            @Value("${tasks.stream.max-subscribers:10000}") int maxSubscribers,
+                            @Value("${tasks.stream.heartbeat:30s}") Duration heartbeatInterval) {
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Opens a stream of changes to tasks matching the optional filters before or after the
+     * change, so that clients also learn about tasks leaving their filter.
+     *
+     * @throws IllegalStateException if {@code tasks.stream.max-subscribers} streams are open
+     */
+    public SseEmitter subscribe(Task.Status status, Task.Priority priority) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many open task streams");
+        }
+        SseEmitter emitter = new SseEmitter();
+        register(emitter, TaskListQuery.of(status, priority, null, null));
+        return emitter;
+    }
+
+    void register(SseEmitter emitter, TaskListQuery filter) {
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscriber.offer(CONNECTED);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        // Serialized once, however many subscribers receive it
+        Set<DataWithMediaType> frame;
+        try {
+            TaskStreamEvent payload = new TaskStreamEvent(event.type(), event.id(),
+                    event.after() != null ? taskMapper.toResponse(event.after()) : null);
+            frame = SseEmitter.event()
+                    .name(TASK_EVENT)
+                    .data(objectMapper.writeValueAsString(payload), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change of task {}", event.id(), e);
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.matches(event.before()) || subscriber.filter.matches(event.after())) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Sent as a {@code due} event to subscribers whose filter matches the task.
+     */
+    @Override
+    public void onTaskDue(TaskDueEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .name(DUE_EVENT)
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize due event of task {}", event.id(), e);
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            TaskListQuery filter = subscriber.filter;
+            if ((filter.status() == null || filter.status() == event.status())
+                    && (filter.priority() == null || filter.priority() == event.priority())) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-stream-heartbeat").daemon().factory());
+        long millis = heartbeatInterval.toMillis();
+        heartbeats.scheduleWithFixedDelay(() -> subscribers.forEach(Subscriber::heartbeat),
+                millis, millis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.stream.subscribers", subscribers, Set::size)
+                .description("Open GET /api/tasks/stream connections")
+                .register(registry);
+        FunctionCounter.builder("tasks.stream.resyncs", resyncs, AtomicLong::get)
+                .description("Subscriber buffers that overflowed and were told to resync")
+                .register(registry);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final TaskListQuery filter;
+        // A ReentrantLock rather than synchronized, so a sender never pins its carrier thread
+        private final Lock lock = new ReentrantLock();
+        private final ArrayDeque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+        private boolean overflowed;
+        private boolean draining;
+
+        private Subscriber(SseEmitter emitter, TaskListQuery filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            lock.lock();
+            try {
+                if (overflowed) {
+                    // The resync that is already pending covers this change
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.clear();
+                    overflowed = true;
+                    resyncs.incrementAndGet();
+                } else {
+                    buffer.add(frame);
+                }
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            senders.execute(this::drain);
+        }
+
+        void heartbeat() {
+            lock.lock();
+            try {
+                if (draining || overflowed || !buffer.isEmpty()) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            offer(HEARTBEAT);
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> frame;
+                lock.lock();
+                try {
+                    if (overflowed) {
+                        overflowed = false;
+                        frame = RESYNC;
+                    } else {
+                        frame = buffer.poll();
+                        if (frame == null) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away; leave draining set so nothing is scheduled for it again
+                    subscribers.remove(this);
+                    return;
+                }
+            }
+        }
+    }
+}
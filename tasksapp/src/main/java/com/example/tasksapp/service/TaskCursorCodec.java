@@ -0,0 +1,99 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.model.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Encodes keyset scroll positions as opaque URL-safe tokens. Only non-nullable columns can be
+ * used as keyset sort keys, so the accepted sort properties are restricted accordingly.
+ */
+final class TaskCursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            "id", Long::valueOf,
+            "title", value -> value,
+            "status", Task.Status::valueOf,
+            "createdAt", LocalDateTime::parse,
+            "updatedAt", LocalDateTime::parse
+    );
+
+    private TaskCursorCodec() {
+    }
+
+    static Sort keysetSort(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Sort.by(Sort.Direction.DESC, "id");
+        }
+        for (Sort.Order order : sort) {
+            if (!KEY_PARSERS.containsKey(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported cursor sort property: " + order.getProperty());
+            }
+        }
+        if (sort.getOrderFor("id") != null) {
+            return sort;
+        }
+        Sort.Direction direction = sort.iterator().next().getDirection();
+        return sort.and(Sort.by(direction, "id"));
+    }
+
+    static KeysetScrollPosition decode(String token, Sort sort) {
+        if (token == null || token.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, String> raw;
+        try {
+            raw = MAPPER.readValue(Base64.getUrlDecoder().decode(token), KEYS_TYPE);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+
+        Set<String> expected = new HashSet<>();
+        sort.forEach(order -> expected.add(order.getProperty()));
+        if (!raw.keySet().equals(expected)) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            raw.forEach((property, value) -> keys.put(property, KEY_PARSERS.get(property).apply(value)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        Map<String, String> raw = new LinkedHashMap<>();
+        keyset.getKeys().forEach((property, value) -> raw.put(property, String.valueOf(value)));
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MAPPER.writeValueAsString(raw).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode cursor", e);
+        }
+    }
+}
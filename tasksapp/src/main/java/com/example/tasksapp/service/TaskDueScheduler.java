@@ -0,0 +1,305 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskDueEvent;
+import com.example.tasksapp.event.TaskDueListener;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskDueDate;
+import com.example.tasksapp.repository.TaskDueTicks;
+import com.example.tasksapp.repository.TaskRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Raises {@link TaskDueEvent}s to every {@link TaskDueListener}. Each task that is not done and
+ * has a due date has one pending deadline, in a queue ordered by the day it fires on; a tick
+ * every {@code tasks.due.tick} only polls the head of the queue, which is all the resolution
+ * day-granular due dates need. The queue follows committed task events, and is loaded at startup
+ * by one range query on the due-date index from the last day ticked before the restart (see
+ * {@link TaskDueTicks}), or from yesterday on a first start: tasks due before that day were
+ * already announced as overdue, while those that fell due during the downtime are announced now.
+ */
+@Slf4j
+@Component
+public class TaskDueScheduler implements SmartLifecycle, MeterBinder {
+
+    private final TaskRepository taskRepository;
+    private final TaskDueTicks dueTicks;
+    private final ObjectProvider<TaskDueListener> listeners;
+    private final boolean enabled;
+    private final int soonDays;
+    private final Duration tick;
+
+    private final Lock lock = new ReentrantLock();
+    private final NavigableSet<Deadline> queue = new TreeSet<>();
+    private final Map<Long, Deadline> byTask = new HashMap<>();
+    // Ids written while the startup load runs; their rows in the load may be stale
+    private Set<Long> changedWhileLoading;
+    private final Map<TaskDueEvent.Type, AtomicLong> raised = new EnumMap<>(TaskDueEvent.Type.class);
+    private Clock clock = Clock.systemDefaultZone();
+
+    // Ticks are only recorded once loaded, so an early tick cannot move the start of the load
+    private volatile boolean loaded;
+    private LocalDate recordedTick;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public TaskDueScheduler(TaskRepository taskRepository,
+                            TaskDueTicks dueTicks,
+                            ObjectProvider<TaskDueListener> listeners,
+                            @Value("${tasks.due.enabled:true}") boolean enabled,
+                            @Value("${tasks.due.soon-days:1}") int soonDays,
+                            @Value("${tasks.due.tick:1m}") Duration tick) {
+        this.taskRepository = taskRepository;
+        this.dueTicks = dueTicks;
+        this.listeners = listeners;
+        this.enabled = enabled;
+        this.soonDays = soonDays;
+        this.tick = tick;
+        for (TaskDueEvent.Type type : TaskDueEvent.Type.values()) {
+            raised.put(type, new AtomicLong());
+        }
+    }
+
+    public int scheduledCount() {
+        lock.lock();
+        try {
+            return byTask.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        LocalDate today = LocalDate.now(clock);
+        lock.lock();
+        try {
+            changedWhileLoading = new HashSet<>();
+        } finally {
+            lock.unlock();
+        }
+        LocalDate from = dueTicks.lastTickedDay()
+                .filter(day -> !day.isAfter(today))
+                .orElse(today.minusDays(1));
+        try (Stream<TaskDueDate> tasks = taskRepository.streamDueFrom(from)) {
+            tasks.forEach(task -> {
+                lock.lock();
+                try {
+                    if (!changedWhileLoading.contains(task.id())) {
+                        scheduleUnderLock(task.id(), task.status(), task.priority(), task.dueDate(), today);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            });
+        } finally {
+            lock.lock();
+            try {
+                changedWhileLoading = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+        loaded = true;
+        log.info("Due-date scheduler loaded {} deadlines due from {} in {} ms", scheduledCount(), from,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        lock.lock();
+        try {
+            if (changedWhileLoading != null) {
+                changedWhileLoading.add(event.id());
+            }
+            if (!isPending(after)) {
+                unscheduleUnderLock(event.id());
+            } else if (isPending(before) && before.dueDate().equals(after.dueDate())) {
+                // Same deadline, so nothing is announced twice; only the status or priority it carries may change
+                Deadline current = byTask.get(after.id());
+                if (current != null) {
+                    TaskDueEvent pending = current.event();
+                    replaceUnderLock(current, new Deadline(current.fireOn(), new TaskDueEvent(pending.type(),
+                            after.id(), after.status(), after.priority(), after.dueDate())));
+                }
+            } else {
+                scheduleUnderLock(after.id(), after.status(), after.priority(), after.dueDate(), LocalDate.now(clock));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Raises the events of every deadline up to today. A deadline that was missed entirely (the
+     * app was not ticking) raises only the latest event: a task that is overdue by now is not
+     * announced as due soon first.
+     */
+    public void fireDue() {
+        LocalDate today = LocalDate.now(clock);
+        List<TaskDueEvent> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (!queue.isEmpty() && !queue.first().fireOn().isAfter(today)) {
+                Deadline deadline = queue.pollFirst();
+                byTask.remove(deadline.event().id());
+                TaskDueEvent event = deadline.event();
+                if (event.type() == TaskDueEvent.Type.OVERDUE) {
+                    due.add(event);
+                    continue;
+                }
+                if (!event.dueDate().isBefore(today)) {
+                    due.add(event);
+                }
+                enqueueUnderLock(new Deadline(event.dueDate().plusDays(1), event.withType(TaskDueEvent.Type.OVERDUE)));
+            }
+        } finally {
+            lock.unlock();
+        }
+        due.forEach(this::dispatch);
+        // After dispatching: a crash in between announces again rather than not at all
+        if (loaded && !today.equals(recordedTick)) {
+            dueTicks.recordTick(today);
+            recordedTick = today;
+        }
+    }
+
+    private void dispatch(TaskDueEvent event) {
+        raised.get(event.type()).incrementAndGet();
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onTaskDue(event);
+            } catch (RuntimeException e) {
+                log.warn("Due-date listener {} failed for task {}", listener.getClass().getSimpleName(), event.id(), e);
+            }
+        });
+    }
+
+    /**
+     * Queues the next event of a task: overdue if its due date has already passed, otherwise
+     * due soon, on the day {@code tasks.due.soon-days} before it or today if that is later.
+     */
+    private void scheduleUnderLock(Long id, Task.Status status, Task.Priority priority, LocalDate dueDate, LocalDate today) {
+        unscheduleUnderLock(id);
+        TaskDueEvent event = dueDate.isBefore(today)
+                ? new TaskDueEvent(TaskDueEvent.Type.OVERDUE, id, status, priority, dueDate)
+                : new TaskDueEvent(TaskDueEvent.Type.DUE_SOON, id, status, priority, dueDate);
+        LocalDate fireOn = event.type() == TaskDueEvent.Type.OVERDUE ? today : dueDate.minusDays(soonDays);
+        enqueueUnderLock(new Deadline(fireOn, event));
+    }
+
+    private void enqueueUnderLock(Deadline deadline) {
+        queue.add(deadline);
+        byTask.put(deadline.event().id(), deadline);
+    }
+
+    private void replaceUnderLock(Deadline current, Deadline replacement) {
+        queue.remove(current);
+        enqueueUnderLock(replacement);
+    }
+
+    private void unscheduleUnderLock(Long id) {
+        Deadline current = byTask.remove(id);
+        if (current != null) {
+            queue.remove(current);
+        }
+    }
+
+    private static boolean isPending(TaskSnapshot task) {
+        return task != null && task.dueDate() != null && task.status() != Task.Status.DONE;
+    }
+
+    @Override
+    public void start() {
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("task-due-scheduler").daemon().factory());
+            long millis = tick.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    fireDue();
+                } catch (RuntimeException e) {
+                    log.warn("Due-date tick failed", e);
+                }
+            }, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.due.scheduled", this, TaskDueScheduler::scheduledCount)
+                .description("Tasks with a pending due-soon or overdue event")
+                .register(registry);
+        raised.forEach((type, count) -> FunctionCounter.builder("tasks.due.events", count, AtomicLong::get)
+                .description("Due-soon and overdue events raised")
+                .tag("type", type.name())
+                .register(registry));
+    }
+
+    private record Deadline(LocalDate fireOn, TaskDueEvent event) implements Comparable<Deadline> {
+
+        @Override
+        public int compareTo(Deadline other) {
+            int byDay = fireOn.compareTo(other.fireOn);
+            return byDay != 0 ? byDay : event.id().compareTo(other.event.id());
+        }
+    }
+}
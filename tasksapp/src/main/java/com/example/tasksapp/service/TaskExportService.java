@@ -0,0 +1,104 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * Streams tasks straight from a database cursor into the response. Each entity is mapped,
+ * written and detached before the next row is read, so memory use does not grow with the
+ * size of the export.
+ */
+@Service
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter csvWriter;
+    private final ObjectWriter ndjsonWriter;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             TaskMapper taskMapper,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        CsvMapper csvMapper = csvMapper();
+        this.csvWriter = csvMapper.writerFor(TaskResponse.class)
+                .with(csvMapper.schemaFor(TaskResponse.class).withHeader())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.ndjsonWriter = objectMapper.writerFor(TaskResponse.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public void export(Task.Status status, Task.Priority priority, String q, Sort sort,
+                       TaskFileFormat format, OutputStream out) {
+        String search = StringUtils.hasText(q) ? q : null;
+        ObjectWriter writer = format == TaskFileFormat.CSV ? csvWriter : ndjsonWriter;
+
+        readOnlyTransaction.executeWithoutResult(tx -> {
+            try (Stream<Task> tasks = taskRepository.streamTasks(status, priority, search, sort)) {
+                SequenceWriter sequence = writer.writeValues(out);
+                long written = tasks.mapToLong(task -> {
+                    write(sequence, taskMapper.toResponse(task));
+                    entityManager.detach(task);
+                    return 1;
+                }).sum();
+                sequence.close();
+                if (format == TaskFileFormat.NDJSON && written > 0) {
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * CSV columns in {@link TaskResponse} declaration order, dates as ISO strings.
+     */
+    static CsvMapper csvMapper() {
+        return CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private void write(SequenceWriter sequence, TaskResponse response) {
+        try {
+            sequence.write(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskFacetsResponse;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.example.tasksapp.repository.TaskDueDate;
+import com.example.tasksapp.repository.TaskFacetCount;
+import com.example.tasksapp.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task counts by status and priority, and of unfinished tasks by due date, kept in memory and
+ * moved by the committed task events, so reading them never touches the database or depends
+ * on the number of tasks. There is one {@link LongAdder} per status/priority pair; per-status,
+ * per-priority and total counts are sums over those twelve. Overdue and due-this-week counts
+ * are adders too, recomputed from the due-date counts when the day changes.
+ *
+ * <p>Counts are loaded once the app is ready and reloaded every
+ * {@code tasks.facets.reconcile-interval}. A reload counts in a snapshot transaction and keeps
+ * the events applied meanwhile. Writers whose {@link TaskChangeHorizon} ticket was opened after
+ * the count cannot be in it, so their events are replayed onto it. For the others the snapshot
+ * is asked whether it already holds the task as the event left it. Before swapping, the reload
+ * waits for those writers to apply their events. Until the first load succeeds, facets are
+ * counted by the database on every call.
+ */
+@Slf4j
+@Component
+public class TaskFacetCounter implements SmartLifecycle {
+
+    private static final Task.Status[] STATUSES = Task.Status.values();
+    private static final Task.Priority[] PRIORITIES = Task.Priority.values();
+    // Tasks without a priority are counted in the last column
+    private static final int PRIORITY_COLUMNS = PRIORITIES.length + 1;
+    // How long a reload waits for the writers that may be in its count
+    private static final Duration WRITERS_TIMEOUT = Duration.ofSeconds(5);
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeHorizon changeHorizon;
+    private final Duration reconcileInterval;
+    private final TransactionTemplate snapshotTransaction;
+
+    // Events share the read lock; swapping in a reload or rolling the due window takes the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock reloading = new ReentrantLock();
+    private volatile Counts counts;
+    // Events applied while a reload counts, with the ticket of their writer
+    private volatile Queue<TicketedEvent> reloadEvents;
+    private Clock clock = Clock.systemDefaultZone();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public TaskFacetCounter(TaskRepository taskRepository,
+                            TaskChangeHorizon changeHorizon,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${tasks.facets.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.taskRepository = taskRepository;
+        this.changeHorizon = changeHorizon;
+        this.reconcileInterval = reconcileInterval;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public boolean isReady() {
+        return counts != null;
+    }
+
+    public TaskFacetsResponse facets() {
+        Counts current = counts;
+        if (current == null) {
+            current = load();
+        }
+        LocalDate today = LocalDate.now(clock);
+        DueWindow window = windowFor(current, today);
+
+        Map<Task.Status, Long> byStatus = new EnumMap<>(Task.Status.class);
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        Map<Task.Status, Map<String, Long>> byStatusAndPriority = new EnumMap<>(Task.Status.class);
+        long total = 0;
+        // Every aggregate is summed from the same reads, so they add up even while counts move
+        for (Task.Status status : STATUSES) {
+            Map<String, Long> row = new LinkedHashMap<>();
+            long statusTotal = 0;
+            for (int column = 0; column < PRIORITY_COLUMNS; column++) {
+                long count = current.cells[status.ordinal() * PRIORITY_COLUMNS + column].sum();
+                String priority = column < PRIORITIES.length ? PRIORITIES[column].name() : TaskFacetsResponse.NO_PRIORITY;
+                row.put(priority, count);
+                byPriority.merge(priority, count, Long::sum);
+                statusTotal += count;
+            }
+            byStatus.put(status, statusTotal);
+            byStatusAndPriority.put(status, row);
+            total += statusTotal;
+        }
+        return new TaskFacetsResponse(total, byStatus, byPriority, byStatusAndPriority,
+                window.overdue().sum(), window.dueThisWeek().sum(), today);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            Counts current = counts;
+            if (current != null) {
+                current.apply(event);
+            }
+            Queue<TicketedEvent> pending = reloadEvents;
+            if (pending != null) {
+                pending.add(new TicketedEvent(event, changeHorizon.currentTicket()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!reconcile()) {
+            log.info("Task facet counts not loaded, writes being counted did not finish; retrying in {}", reconcileInterval);
+        }
+    }
+
+    /**
+     * Recounts everything in the database and replaces the in-memory counts with the result,
+     * plus the events it missed. Returns false, keeping the current counts, if a writer that may
+     * be in the recount has not applied its event within {@link #WRITERS_TIMEOUT}.
+     */
+    public boolean reconcile() {
+        reloading.lock();
+        try {
+            Queue<TicketedEvent> pending = new ConcurrentLinkedQueue<>();
+            // An event applied before this is seen here has committed before the count starts
+            reloadEvents = pending;
+            try {
+                return Boolean.TRUE.equals(snapshotTransaction.execute(tx -> reload(pending)));
+            } finally {
+                reloadEvents = null;
+            }
+        } finally {
+            reloading.unlock();
+        }
+    }
+
+    private boolean reload(Queue<TicketedEvent> pending) {
+        // The transaction's snapshot is taken by its first read
+        Counts loaded = load();
+        long lastWriter = changeHorizon.lastTicket();
+        if (!awaitWriters(lastWriter)) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            List<TicketedEvent> events = List.copyOf(pending);
+            Map<Long, TaskDueDate> counted = countedAs(events, lastWriter);
+            events.stream()
+                    .collect(Collectors.groupingBy(event -> event.event().id(), LinkedHashMap::new, Collectors.toList()))
+                    .forEach((id, changes) -> missed(changes, counted.get(id), lastWriter)
+                            .forEach(change -> loaded.apply(change.event())));
+            Counts previous = counts;
+            if (previous != null && !previous.sameAs(loaded)) {
+                log.warn("Task facet counts had drifted from the database and were reloaded");
+            }
+            counts = loaded;
+            reloadEvents = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Waits until every writer up to {@code lastWriter} has finished, and so applied its events.
+     */
+    private boolean awaitWriters(long lastWriter) {
+        long deadline = System.nanoTime() + WRITERS_TIMEOUT.toNanos();
+        while (changeHorizon.isOpenUpTo(lastWriter)) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The counted state of the tasks changed by writers that may be in the count, read from the
+     * snapshot it was taken in.
+     */
+    private Map<Long, TaskDueDate> countedAs(List<TicketedEvent> events, long lastWriter) {
+        Set<Long> ids = events.stream()
+                .filter(event -> event.ticket() <= lastWriter)
+                .map(event -> event.event().id())
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return taskRepository.findDueDatesByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskDueDate::id, Function.identity()));
+    }
+
+    /**
+     * The changes of one task, in the order they were applied, that the count does not hold. It
+     * holds the task as some prefix of them left it, {@code counted} being null for a task it
+     * does not have; changes by writers opened after the count can only follow that prefix.
+     * Should the task pass through the same counted state twice, either match gives the same
+     * counts.
+     */
+    private static List<TicketedEvent> missed(List<TicketedEvent> changes, TaskDueDate counted, long lastWriter) {
+        for (int prefix = 0; prefix <= changes.size(); prefix++) {
+            TaskSnapshot state = prefix == 0 ? changes.getFirst().event().before() : changes.get(prefix - 1).event().after();
+            if (isCountedAs(state, counted)) {
+                return changes.subList(prefix, changes.size());
+            }
+            if (prefix < changes.size() && changes.get(prefix).ticket() > lastWriter) {
+                break;
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isCountedAs(TaskSnapshot state, TaskDueDate counted) {
+        if (state == null || counted == null) {
+            return state == null && counted == null;
+        }
+        return state.status() == counted.status() && state.priority() == counted.priority()
+                && Objects.equals(state.dueDate(), counted.dueDate());
+    }
+
+    private Counts load() {
+        Counts loaded = new Counts();
+        for (TaskFacetCount row : taskRepository.countFacets()) {
+            loaded.add(row.status(), row.priority(), row.dueDate(), row.count());
+        }
+        return loaded;
+    }
+
+    private DueWindow windowFor(Counts current, LocalDate today) {
+        DueWindow window = current.window;
+        if (window != null && window.today().equals(today)) {
+            return window;
+        }
+        lock.writeLock().lock();
+        try {
+            window = current.window;
+            if (window == null || !window.today().equals(today)) {
+                window = DueWindow.of(today, current.openByDueDate);
+                current.window = window;
+            }
+            return window;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!reconcileInterval.isZero() && !reconcileInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("task-facets-reconcile").daemon().factory());
+            long millis = reconcileInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(() -> {
+                try {
+                    reconcile();
+                } catch (RuntimeException e) {
+                    log.warn("Task facet reconciliation failed", e);
+                }
+            }, millis, millis, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static final class Counts {
+
+        final LongAdder[] cells = new LongAdder[STATUSES.length * PRIORITY_COLUMNS];
+        // Unfinished tasks only; entries that drop to zero stay until the next reload
+        final NavigableMap<LocalDate, LongAdder> openByDueDate = new ConcurrentSkipListMap<>();
+        volatile DueWindow window;
+
+        Counts() {
+            Arrays.setAll(cells, i -> new LongAdder());
+        }
+
+        void apply(TaskChangedEvent event) {
+            if (event.before() != null) {
+                add(event.before(), -1);
+            }
+            if (event.after() != null) {
+                add(event.after(), 1);
+            }
+        }
+
+        void add(TaskSnapshot task, long delta) {
+            add(task.status(), task.priority(), task.dueDate(), delta);
+        }
+
+        void add(Task.Status status, Task.Priority priority, LocalDate dueDate, long delta) {
+            int column = priority != null ? priority.ordinal() : PRIORITIES.length;
+            cells[status.ordinal() * PRIORITY_COLUMNS + column].add(delta);
+            if (status != Task.Status.DONE && dueDate != null) {
+                openByDueDate.computeIfAbsent(dueDate, date -> new LongAdder()).add(delta);
+                DueWindow current = window;
+                if (current != null) {
+                    current.add(dueDate, delta);
+                }
+            }
+        }
+
+        boolean sameAs(Counts other) {
+            for (int i = 0; i < cells.length; i++) {
+                if (cells[i].sum() != other.cells[i].sum()) {
+                    return false;
+                }
+            }
+            return nonZero(openByDueDate).equals(nonZero(other.openByDueDate));
+        }
+
+        private static Map<LocalDate, Long> nonZero(NavigableMap<LocalDate, LongAdder> byDate) {
+            Map<LocalDate, Long> sums = new LinkedHashMap<>();
+            byDate.forEach((date, count) -> {
+                long sum = count.sum();
+                if (sum != 0) {
+                    sums.put(date, sum);
+                }
+            });
+            return sums;
+        }
+    }
+
+    private record TicketedEvent(TaskChangedEvent event, long ticket) {
+    }
+
+    /**
+     * Overdue and due-this-week counts for one day: due before {@code today}, and due from
+     * {@code today} through the following Sunday.
+     */
+    private record DueWindow(LocalDate today, LocalDate weekEnd, LongAdder overdue, LongAdder dueThisWeek) {
+
+        static DueWindow of(LocalDate today, NavigableMap<LocalDate, LongAdder> openByDueDate) {
+            DueWindow window = new DueWindow(today, today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY)),
+                    new LongAdder(), new LongAdder());
+            openByDueDate.headMap(today, false).values().forEach(count -> window.overdue.add(count.sum()));
+            openByDueDate.subMap(today, true, window.weekEnd, true).values()
+                    .forEach(count -> window.dueThisWeek.add(count.sum()));
+            return window;
+        }
+
+        void add(LocalDate dueDate, long delta) {
+            if (dueDate.isBefore(today)) {
+                overdue.add(delta);
+            } else if (!dueDate.isAfter(weekEnd)) {
+                dueThisWeek.add(delta);
+            }
+        }
+    }
+}
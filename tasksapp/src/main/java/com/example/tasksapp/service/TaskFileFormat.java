@@ -0,0 +1,28 @@
+package com.example.tasksapp.service;
+
+import java.util.Locale;
+
+public enum TaskFileFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static TaskFileFormat fromParameter(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
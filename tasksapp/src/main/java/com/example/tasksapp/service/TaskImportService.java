@@ -0,0 +1,276 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.ImportReport;
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Imports tasks from a CSV or NDJSON stream. The calling thread parses and validates records
+ * and hands chunks to a writer thread through a bounded queue; when the writer falls behind the
+ * parser blocks, so at most {@code queue-capacity + 2} chunks are ever held in memory.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+
+    private static final int RETAINED_JOBS = 20;
+    // Reports are polled by clients, so database errors stay in the log
+    private static final String CHUNK_FAILED = "Write failed; no row of its chunk was imported";
+    private static final String WRITER_FAILED = "Import aborted: the rows could not be written";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncTaskExecutor executor;
+    private final ObjectReader csvReader;
+    private final ObjectReader ndjsonReader;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int maxErrors;
+    private final Map<String, ImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > RETAINED_JOBS && !eldest.getValue().isRunning();
+        }
+    });
+
+    public TaskImportService(TaskRepository taskRepository,
+                             TaskMapper taskMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("applicationTaskExecutor") AsyncTaskExecutor executor,
+                             ObjectMapper objectMapper,
+                             @Value("${tasks.import.chunk-size:500}") int chunkSize,
+                             @Value("${tasks.import.queue-capacity:4}") int queueCapacity,
+                             @Value("${tasks.import.max-errors:1000}") int maxErrors) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+        this.maxErrors = maxErrors;
+
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(TaskCreateRequest.class).with(CsvSchema.emptySchema().withHeader());
+        this.ndjsonReader = objectMapper.readerFor(TaskCreateRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public List<ImportReport> getJobs() {
+        synchronized (jobs) {
+            return jobs.values().stream().map(ImportJob::report)
+                    .sorted(Comparator.comparing(ImportReport::getStartedAt).reversed())
+                    .toList();
+        }
+    }
+
+    public Optional<ImportReport> getJob(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::report);
+    }
+
+    public ImportReport importTasks(InputStream input, TaskFileFormat format) {
+        ImportJob job = new ImportJob(maxErrors);
+        jobs.put(job.id(), job);
+
+        BlockingQueue<List<Row>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> writeChunks(queue, job), executor);
+
+        ImportReport.State outcome = ImportReport.State.COMPLETED;
+        try {
+            parse(input, format, job, queue, writer);
+            handOff(queue, List.of(), writer);
+            writer.get();
+        } catch (IOException e) {
+            // Unreadable input: the message describes the client's own upload
+            log.warn("Import {} failed", job.id(), e);
+            outcome = ImportReport.State.FAILED;
+            job.rejected(0, "Import aborted: " + rootMessage(e));
+        } catch (ExecutionException | IllegalStateException e) {
+            log.warn("Import {} failed", job.id(), e);
+            outcome = ImportReport.State.FAILED;
+            job.rejected(0, WRITER_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = ImportReport.State.FAILED;
+        } finally {
+            if (!writer.isDone()) {
+                queue.clear();
+                queue.offer(List.of());
+            }
+            job.finish(outcome);
+        }
+        return job.report();
+    }
+
+    private void parse(InputStream input, TaskFileFormat format, ImportJob job,
+                       BlockingQueue<List<Row>> queue, CompletableFuture<Void> writer)
+            throws IOException, ExecutionException, InterruptedException {
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        if (format == TaskFileFormat.CSV) {
+            try (MappingIterator<TaskCreateRequest> records = csvReader.readValues(input)) {
+                while (true) {
+                    long line = records.getCurrentLocation().getLineNr();
+                    TaskCreateRequest request;
+                    try {
+                        if (!records.hasNextValue()) {
+                            break;
+                        }
+                        line = records.getCurrentLocation().getLineNr();
+                        request = records.nextValue();
+                    } catch (JsonProcessingException e) {
+                        job.parsed();
+                        job.rejected(e.getLocation() != null ? e.getLocation().getLineNr() : line, e.getOriginalMessage());
+                        continue;
+                    }
+                    chunk = accept(new Row(line, request), chunk, job, queue, writer);
+                }
+            }
+        } else {
+            // One record per line, parsed on its own: a malformed line cannot derail the next one
+            BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            long line = 0;
+            for (String text = lines.readLine(); text != null; text = lines.readLine()) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                TaskCreateRequest request;
+                try {
+                    request = ndjsonReader.readValue(text);
+                } catch (JsonProcessingException e) {
+                    job.parsed();
+                    job.rejected(line, e.getOriginalMessage());
+                    continue;
+                }
+                chunk = accept(new Row(line, request), chunk, job, queue, writer);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            handOff(queue, chunk, writer);
+        }
+    }
+
+    private List<Row> accept(Row row, List<Row> chunk, ImportJob job,
+                             BlockingQueue<List<Row>> queue, CompletableFuture<Void> writer)
+            throws ExecutionException, InterruptedException {
+        job.parsed();
+        String error = validate(row.request());
+        if (error != null) {
+            job.rejected(row.line(), error);
+            return chunk;
+        }
+        chunk.add(row);
+        if (chunk.size() < chunkSize) {
+            return chunk;
+        }
+        handOff(queue, chunk, writer);
+        return new ArrayList<>(chunkSize);
+    }
+
+    private void handOff(BlockingQueue<List<Row>> queue, List<Row> chunk, CompletableFuture<Void> writer)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new IllegalStateException("Import writer stopped unexpectedly");
+            }
+        }
+    }
+
+    private void writeChunks(BlockingQueue<List<Row>> queue, ImportJob job) {
+        try {
+            while (true) {
+                List<Row> chunk = queue.take();
+                if (chunk.isEmpty()) {
+                    return;
+                }
+                write(chunk, job);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<Row> chunk, ImportJob job) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                taskRepository.saveAll(chunk.stream().map(row -> taskMapper.toEntity(row.request())).toList());
+                taskRepository.flush();
+            });
+            job.imported(chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Import {} failed to write a chunk of {} rows", job.id(), chunk.size(), e);
+            chunk.forEach(row -> job.rejected(row.line(), CHUNK_FAILED));
+        }
+    }
+
+    private String validate(TaskCreateRequest request) {
+        if (request == null) {
+            return "Empty record";
+        }
+        Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    private record Row(long line, TaskCreateRequest request) {
+    }
+}
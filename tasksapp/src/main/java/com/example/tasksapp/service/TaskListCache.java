@@ -0,0 +1,105 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.cache.CacheWeights;
+import com.example.tasksapp.cache.Weighable;
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Caches the id list and total of list queries, and the {@link TaskVersion} of each filter
+ * (keyed without a pageable). Entries are evicted only when a committed
+ * change touches a task that the entry's filter matched before or matches after the change.
+ * Puts share a read lock and invalidations hold the write lock, so a put either lands before an
+ * invalidation and is evicted by it, or sees the invalidation's generation and is dropped.
+ */
+@Component
+public class TaskListCache {
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskListCache(CacheManager cacheManager) {
+        this.cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.TASK_LISTS)).getNativeCache();
+    }
+
+    public CachedPage get(TaskListQuery query) {
+        return (CachedPage) cache.getIfPresent(query);
+    }
+
+    /**
+     * Read before running a query and pass to {@link #put}, so that a result computed while a
+     * change was being committed is not cached after that change's invalidation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(TaskListQuery query, List<Long> ids, long total, long generationAtQuery) {
+        putIfCurrent(query, new CachedPage(List.copyOf(ids), total), generationAtQuery);
+    }
+
+    public TaskVersion getVersion(TaskListQuery filter) {
+        return (TaskVersion) cache.getIfPresent(filter);
+    }
+
+    public void putVersion(TaskListQuery filter, TaskVersion version, long generationAtQuery) {
+        putIfCurrent(filter, version, generationAtQuery);
+    }
+
+    public void invalidateAll() {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> {
+                TaskListQuery query = (TaskListQuery) key;
+                return query.matches(event.before()) || query.matches(event.after());
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putIfCurrent(TaskListQuery key, Object value, long generationAtQuery) {
+        lock.readLock().lock();
+        try {
+            if (generation.get() == generationAtQuery) {
+                cache.put(key, value);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public record CachedPage(List<Long> ids, long total) implements Weighable {
+
+        // record header, list object and array, one boxed Long per id
+        @Override
+        public long estimatedBytes() {
+            return CacheWeights.OBJECT_HEADER + 8 + CacheWeights.OBJECT_HEADER + 16
+                    + ids.size() * (4L + CacheWeights.BOXED_LONG);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.cache.CacheWeights;
+import com.example.tasksapp.cache.Weighable;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.search.SearchTokenizer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Normalized key of a cached list query. {@link #matches} is deliberately broader than the
+ * queries themselves so that an invalidation never misses an affected entry.
+ */
+public record TaskListQuery(Task.Status status, Task.Priority priority, String q, Pageable pageable)
+        implements Weighable {
+
+    public static TaskListQuery of(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        String normalized = StringUtils.hasText(q) ? q.trim().toLowerCase(Locale.ROOT) : null;
+        return new TaskListQuery(status, priority, normalized, pageable);
+    }
+
+    @Override
+    public long estimatedBytes() {
+        return CacheWeights.OBJECT_HEADER + 4 * 4 + CacheWeights.sizeOf(q) + (pageable != null ? CacheWeights.PAGEABLE : 0);
+    }
+
+    public boolean matches(TaskSnapshot task) {
+        if (task == null) {
+            return false;
+        }
+        if (status != null && status != task.status()) {
+            return false;
+        }
+        if (priority != null && priority != task.priority()) {
+            return false;
+        }
+        if (q == null) {
+            return true;
+        }
+
+        String text = (Objects.toString(task.title(), "") + " " + Objects.toString(task.description(), ""))
+                .toLowerCase(Locale.ROOT);
+        if (text.contains(q)) {
+            return true;
+        }
+        List<String> terms = SearchTokenizer.tokenize(q);
+        return !terms.isEmpty() && terms.stream().allMatch(text::contains);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ids known not to exist, so that repeated requests for deleted or never-created tasks are
+ * answered without a database round trip. Entries are short-lived; a committed creation removes
+ * its id, and a committed deletion adds it. Puts share a read lock and creations hold the write
+ * lock, so a miss either lands before a creation and is removed by it, or sees its generation and
+ * is dropped.
+ */
+@Component
+public class TaskMissCache {
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskMissCache(CacheManager cacheManager) {
+        this.cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.TASK_MISSES)).getNativeCache();
+    }
+
+    public boolean contains(Long id) {
+        return cache.getIfPresent(id) != null;
+    }
+
+    /**
+     * Read before looking a task up and pass to {@link #put}, so that a miss observed while the
+     * task was being created is not cached after that creation's invalidation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Long id, long generationAtLookup) {
+        lock.readLock().lock();
+        try {
+            if (generation.get() == generationAtLookup) {
+                cache.put(id, Boolean.TRUE);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.CREATED) {
+            lock.writeLock().lock();
+            try {
+                generation.incrementAndGet();
+                cache.invalidate(event.id());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } else if (event.type() == TaskChangedEvent.Type.DELETED) {
+            cache.put(event.id(), Boolean.TRUE);
+        }
+    }
+}
@@ -1,62 +1,230 @@
 package com.example.tasksapp.service;
 
+import com.example.tasksapp.config.CacheConfig;
 import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskFacetsResponse;
 import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskSliceResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.dto.TaskVersion;
 import com.example.tasksapp.mapper.TaskMapper;
 import com.example.tasksapp.model.Task;
 import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.repository.TaskSpecifications;
+import com.example.tasksapp.search.TaskBitmapIndex;
+import com.example.tasksapp.search.TaskSearchIndex;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "tasks.service", description = "TaskService method latency", histogram = true)
+@Counted(value = "tasks.service.errors", description = "TaskService calls that threw", recordFailuresOnly = true)
 public class TaskService {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final TaskSearchIndex searchIndex;
+    private final TaskBitmapIndex bitmapIndex;
+    private final TaskListCache listCache;
+    private final CacheManager cacheManager;
+    private final TaskVersionCache versionCache;
+    private final TaskMissCache missCache;
+    private final TaskFacetCounter facetCounter;
 
     public Page<TaskResponse> getTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findTasks(status, priority, q, pageable);
-        return tasks.map(taskMapper::toResponse);
+        TaskListQuery query = TaskListQuery.of(status, priority, q, pageable);
+        TaskListCache.CachedPage cached = listCache.get(query);
+        if (cached != null) {
+            List<TaskResponse> content = loadInOrder(cached.ids());
+            if (content.size() == cached.ids().size()) {
+                return new PageImpl<>(content, pageable, cached.total());
+            }
+        }
+
+        long generation = listCache.generation();
+        Page<TaskResponse> result = queryTasks(status, priority, q, pageable);
+        listCache.put(query, result.map(TaskResponse::getId).getContent(), result.getTotalElements(), generation);
+        return result;
+    }
+
+    private Page<TaskResponse> queryTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        if (StringUtils.hasText(q) && searchIndex.isReady()) {
+            return searchTasks(status, priority, q, pageable);
+        }
+        if (!StringUtils.hasText(q) && bitmapIndex.isReady() && bitmapIndex.supports(pageable)) {
+            Page<Long> ids = bitmapIndex.query(status, priority, pageable);
+            return new PageImpl<>(loadInOrder(ids.getContent()), pageable, ids.getTotalElements());
+        }
+        return taskRepository.findTaskResponses(status, priority, q, pageable);
+    }
+
+    private List<TaskResponse> loadInOrder(List<Long> ids) {
+        Cache taskById = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        Map<Long, TaskResponse> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            TaskResponse response = taskById != null ? taskById.get(id, TaskResponse.class) : null;
+            if (response != null) {
+                found.put(id, response);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            taskRepository.findResponsesByIdIn(missing).forEach(response -> found.put(response.getId(), response));
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
     }
 
-    @Cacheable(value = "taskById", key = "#id")
-    public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-        return taskMapper.toResponse(task);
+    private Page<TaskResponse> searchTasks(Task.Status status, Task.Priority priority, String q, Pageable pageable) {
+        List<Long> ids = searchIndex.search(q, status, priority);
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(loadInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    public TaskSliceResponse scrollTasks(Task.Status status, Task.Priority priority, String q,
+                                         int size, Sort sort, String cursor) {
+        Sort keysetSort = TaskCursorCodec.keysetSort(sort);
+        KeysetScrollPosition position = TaskCursorCodec.decode(cursor, keysetSort);
+        Window<Task> window = taskRepository.findBy(
+                TaskSpecifications.matching(status, priority, q),
+                query -> query.sortBy(keysetSort).limit(size).scroll(position));
+
+        List<TaskResponse> content = window.map(taskMapper::toResponse).getContent();
+        String next = window.hasNext() && !window.isEmpty()
+                ? TaskCursorCodec.encode(window.positionAt(window.size() - 1))
+                : null;
+        return new TaskSliceResponse(content, size, next != null, next);
+    }
+
+    /**
+     * Validators of a list query's whole filtered set, independent of page and sort.
+     */
+    public TaskVersion getTasksVersion(Task.Status status, Task.Priority priority, String q) {
+        TaskListQuery filter = TaskListQuery.of(status, priority, q, null);
+        TaskVersion cached = listCache.getVersion(filter);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = listCache.generation();
+        TaskVersion version;
+        if (StringUtils.hasText(q) && searchIndex.isReady()) {
+            List<Long> ids = searchIndex.search(q, status, priority);
+            version = ids.isEmpty() ? TaskVersion.EMPTY : new TaskVersion(ids.size(), searchIndex.lastModified(ids));
+        } else if (!StringUtils.hasText(q) && bitmapIndex.isReady()) {
+            version = bitmapIndex.version(status, priority);
+        } else {
+            version = taskRepository.findVersion(status, priority, q);
+        }
+        listCache.putVersion(filter, version, generation);
+        return version;
+    }
+
+    /**
+     * Counts by status, priority and due date for the filters bar, read from the in-memory
+     * counters of {@link TaskFacetCounter}.
+     */
+    public TaskFacetsResponse getFacets() {
+        return facetCounter.facets();
+    }
+
+    /**
+     * Validators of one task, or empty if it does not exist. Misses are remembered in
+     * {@link TaskMissCache}, as they are by {@link #getTaskById}, {@link #updateTask} and
+     * {@link #deleteTask}; none of them throws for an unknown id.
+     */
+    public Optional<TaskVersion> getTaskVersion(Long id) {
+        TaskVersion cached = versionCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (missCache.contains(id)) {
+            return Optional.empty();
+        }
+        long missGeneration = missCache.generation();
+        long versionGeneration = versionCache.generation();
+        Optional<TaskVersion> version = taskRepository.findUpdatedAtById(id)
+                .map(updatedAt -> new TaskVersion(1, updatedAt));
+        version.ifPresentOrElse(found -> versionCache.putIfAbsent(id, found, versionGeneration),
+                () -> missCache.put(id, missGeneration));
+        return version;
+    }
+
+    @Cacheable(value = "taskById", key = "#id", unless = "#result == null")
+    public Optional<TaskResponse> getTaskById(Long id) {
+        if (missCache.contains(id)) {
+            return Optional.empty();
+        }
+        long generation = missCache.generation();
+        Optional<TaskResponse> task = taskRepository.findResponseById(id);
+        if (task.isEmpty()) {
+            missCache.put(id, generation);
+        }
+        return task;
     }
 
     @Transactional
     public TaskResponse createTask(TaskCreateRequest request) {
         Task task = taskMapper.toEntity(request);
         Task savedTask = taskRepository.save(task);
+        // Sequence ids defer the INSERT, and with it the generated timestamps, to flush time
+        taskRepository.flush();
         return taskMapper.toResponse(savedTask);
     }
 
     @Transactional
-    @CachePut(value = "taskById", key = "#id")
-    public TaskResponse updateTask(Long id, TaskUpdateRequest request) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-
-        taskMapper.updateEntityFromRequest(task, request);
-        Task updatedTask = taskRepository.save(task);
-        return taskMapper.toResponse(updatedTask);
+    @CachePut(value = "taskById", key = "#id", unless = "#result == null")
+    public Optional<TaskResponse> updateTask(Long id, TaskUpdateRequest request) {
+        if (missCache.contains(id)) {
+            return Optional.empty();
+        }
+        long generation = missCache.generation();
+        Optional<TaskResponse> updated = taskRepository.patchById(id, request).map(taskMapper::toResponse);
+        if (updated.isEmpty()) {
+            missCache.put(id, generation);
+        }
+        return updated;
     }
 
+    /**
+     * @return false if there was no task with this id
+     */
     @Transactional
     @CacheEvict(value = "taskById", key = "#id")
-    public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-        taskRepository.delete(task);
+    public boolean deleteTask(Long id) {
+        if (missCache.contains(id)) {
+            return false;
+        }
+        long generation = missCache.generation();
+        if (!taskRepository.removeById(id)) {
+            missCache.put(id, generation);
+            return false;
+        }
+        return true;
     }
 }
@@ -0,0 +1,73 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Validators of single tasks, kept next to {@code taskById} so that answering a conditional GET
+ * never loads or maps the task. Committed changes overwrite the entry, whichever path wrote it.
+ * Deletions bump a generation under the write lock, as in {@link TaskMissCache}, so a version
+ * read before a deletion is not cached after it.
+ */
+@Component
+public class TaskVersionCache {
+
+    private final Cache cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TaskVersionCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.TASK_VERSIONS);
+    }
+
+    public TaskVersion get(Long id) {
+        return cache.get(id, TaskVersion.class);
+    }
+
+    /**
+     * Read before looking a version up and pass to {@link #putIfAbsent}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Does not replace an existing entry: a value read from the database just before a commit
+     * must not overwrite the one that commit's event put. Dropped if a task was deleted since
+     * {@code generationAtLookup}.
+     */
+    public void putIfAbsent(Long id, TaskVersion version, long generationAtLookup) {
+        lock.readLock().lock();
+        try {
+            if (generation.get() == generationAtLookup) {
+                cache.putIfAbsent(id, version);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.after() != null) {
+            cache.put(event.id(), TaskVersion.of(event.after()));
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            generation.incrementAndGet();
+            cache.evict(event.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+-- Tasks schema. Hibernate only validates it (ddl-auto=validate), so indexes live here.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+-- change numbers for delta sync (GET /api/tasks/changes), shared by tasks and tombstones
+CREATE SEQUENCE IF NOT EXISTS task_changes_seq START WITH 1;
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id                BIGINT NOT NULL PRIMARY KEY,
+    title             VARCHAR(255) NOT NULL,
+    description       VARCHAR(1000),
+    status            ENUM('DONE', 'IN_PROGRESS', 'OPEN') NOT NULL,
+    priority          ENUM('HIGH', 'LOW', 'MEDIUM'),
+    due_date          DATE,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL,
+    -- lowercased copies for the q search path, so LIKE does not call LOWER() per row
+    title_lower       VARCHAR(255) GENERATED ALWAYS AS (LOWER(title)),
+    description_lower VARCHAR(1000) GENERATED ALWAYS AS (LOWER(description)),
+    -- renumbered by the database on every insert and update, whichever code path writes
+    change_seq        BIGINT DEFAULT NEXT VALUE FOR task_changes_seq
+                      ON UPDATE NEXT VALUE FOR task_changes_seq NOT NULL
+);
+
+-- one row per deleted task, so delta sync can report deletions
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    task_id    BIGINT NOT NULL PRIMARY KEY,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    change_seq BIGINT DEFAULT NEXT VALUE FOR task_changes_seq NOT NULL
+);
+
+-- one row: the last day the due-date scheduler ticked, where its startup load resumes
+CREATE TABLE IF NOT EXISTS task_due_ticks (
+    id       INT NOT NULL PRIMARY KEY,
+    last_day DATE NOT NULL
+);
+
+-- status / status+priority filters, newest first (the default sort)
+CREATE INDEX IF NOT EXISTS idx_tasks_status_priority_updated ON tasks (status, priority, updated_at);
+-- priority-only filter
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_updated ON tasks (priority, updated_at);
+-- unfiltered list sorted by updatedAt
+CREATE INDEX IF NOT EXISTS idx_tasks_updated ON tasks (updated_at);
+-- sort=dueDate and due-date range lookups
+CREATE INDEX IF NOT EXISTS idx_tasks_due_date ON tasks (due_date);
+-- q is a substring match (LIKE '%q%') that no B-tree index can serve; dropped from older files
+DROP INDEX IF EXISTS idx_tasks_title_lower;
+-- delta sync: changes after a watermark, in change order
+CREATE INDEX IF NOT EXISTS idx_tasks_change_seq ON tasks (change_seq);
+CREATE INDEX IF NOT EXISTS idx_task_tombstones_change_seq ON task_tombstones (change_seq);
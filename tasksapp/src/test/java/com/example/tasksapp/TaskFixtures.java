@@ -0,0 +1,96 @@
+package com.example.tasksapp;
+
+import com.example.tasksapp.search.TaskBitmapIndex;
+import com.example.tasksapp.search.TaskSearchIndex;
+import com.example.tasksapp.service.TaskDueScheduler;
+import com.example.tasksapp.service.TaskFacetCounter;
+import com.example.tasksapp.service.TaskListCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Generated tasks for the benchmarks and the load test, inserted with plain JDBC batches so that
+ * a million rows take seconds. No task events fire for them, so call {@link #refresh} afterwards
+ * to rebuild what normally follows those events.
+ */
+public final class TaskFixtures {
+
+    public static final String[] WORDS = {
+            "deploy", "review", "database", "migration", "invoice", "customer", "release", "backend",
+            "frontend", "meeting", "report", "budget", "security", "upgrade", "network", "design",
+            "document", "support", "payment", "schedule", "cleanup", "monitoring", "testing", "roadmap"
+    };
+    public static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "DONE"};
+    public static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private TaskFixtures() {
+    }
+
+    /**
+     * Inserts {@code rows} tasks of four-word titles and twelve-word descriptions, updated within
+     * the last year, three in four with a due date between 90 days ago and 9 months ahead.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int rows, Random random) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        String sql = "INSERT INTO tasks (id, title, description, status, priority, due_date, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR tasks_seq, ?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Timestamp updated = Timestamp.valueOf(now.minusMinutes(random.nextInt(525_600)));
+            Date due = random.nextInt(4) == 0 ? null : Date.valueOf(today.plusDays(random.nextInt(365) - 90));
+            batch.add(new Object[]{sentence(random, 4), sentence(random, 12), STATUSES[random.nextInt(3)],
+                    PRIORITIES[random.nextInt(3)], due, updated, updated});
+            if (batch.size() == 10_000) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    /**
+     * Rebuilds the in-memory views of the tasks table after it was changed behind the
+     * application's back: search and bitmap indexes (when enabled), facet counts, due-date
+     * deadlines and every cache.
+     */
+    public static void refresh(ApplicationContext context) {
+        context.getBean(TaskSearchIndex.class).rebuild();
+        context.getBean(TaskBitmapIndex.class).rebuild();
+        if (!context.getBean(TaskFacetCounter.class).reconcile()) {
+            throw new IllegalStateException("Facet counts could not be loaded");
+        }
+        context.getBean(TaskDueScheduler.class).load();
+        context.getBean(TaskListCache.class).invalidateAll();
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+
+    public static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.tasksapp.cache;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapTaskStoreTest {
+
+    @Test
+    void shouldRoundTripAllFieldsIncludingNulls() {
+        LocalDateTime created = LocalDateTime.of(2025, 10, 1, 9, 30, 15, 123_456_000);
+        TaskResponse full = new TaskResponse(7L, "Größe prüfen", "Beschreibung ✓", Task.Status.IN_PROGRESS,
+                Task.Priority.HIGH, LocalDate.of(2025, 11, 2), created, created.plusHours(1));
+        TaskResponse sparse = new TaskResponse(8L, "Bare", null, Task.Status.OPEN, null, null, created, created);
+
+        assertThat(OffHeapTaskStore.decode(OffHeapTaskStore.encode(full))).isEqualTo(full);
+        assertThat(OffHeapTaskStore.decode(OffHeapTaskStore.encode(sparse))).isEqualTo(sparse);
+    }
+
+    @Test
+    void shouldReplaceAndRemoveEntries() {
+        OffHeapTaskStore store = new OffHeapTaskStore("test", 64 * 1024, 4, Duration.ofMinutes(10));
+        store.put(1L, task(1L, "first"));
+        store.put(1L, task(1L, "second"));
+        store.put(2L, task(2L, "other"));
+
+        assertThat(store.get(1L).getTitle()).isEqualTo("second");
+        assertThat(store.size()).isEqualTo(2);
+
+        store.remove(1L);
+
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.get(2L)).isNotNull();
+        assertThat(store.hitCount()).isEqualTo(2);
+        assertThat(store.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireRecordsAfterWrite() {
+        OffHeapTaskStore store = new OffHeapTaskStore("test", 64 * 1024, 4, Duration.ofMinutes(10));
+        Instant start = Instant.parse("2025-10-01T09:00:00Z");
+        ReflectionTestUtils.setField(store, "clock", Clock.fixed(start, ZoneOffset.UTC));
+        store.put(1L, task(1L, "first"));
+
+        ReflectionTestUtils.setField(store, "clock", Clock.fixed(start.plusSeconds(599), ZoneOffset.UTC));
+        assertThat(store.get(1L)).isNotNull();
+
+        ReflectionTestUtils.setField(store, "clock", Clock.fixed(start.plusSeconds(601), ZoneOffset.UTC));
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void shouldOverwriteOldestRecordsWhenTheRingWraps() {
+        OffHeapTaskStore store = new OffHeapTaskStore("test", 4096, 1, Duration.ofMinutes(10));
+        for (long id = 1; id <= 200; id++) {
+            store.put(id, task(id, "Task number " + id));
+        }
+
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.get(200L).getTitle()).isEqualTo("Task number 200");
+        assertThat(store.evictionCount()).isPositive();
+        assertThat(store.size()).isEqualTo(200 - store.evictionCount());
+        assertThat(store.usedBytes()).isLessThanOrEqualTo(store.capacity());
+    }
+
+    @Test
+    void shouldKeepIndexConsistentWithAMapUnderRandomOperations() {
+        OffHeapTaskStore.LongIntTable table = new OffHeapTaskStore.LongIntTable();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(table.remove(key)).isEqualTo(expected.getOrDefault(key, -1));
+                expected.remove(key);
+            } else {
+                table.put(key, i);
+                expected.put(key, i);
+            }
+        }
+        assertThat(table.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(table.get(key)).isEqualTo(value));
+    }
+
+    private TaskResponse task(Long id, String title) {
+        LocalDateTime now = LocalDateTime.of(2025, 10, 1, 12, 0);
+        return new TaskResponse(id, title, "Some description", Task.Status.OPEN, Task.Priority.LOW, null, now, now);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.tasksapp.cache;
+
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.model.Task;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TieredCaffeineCacheTest {
+
+    private OffHeapTaskStore offHeap;
+    private TieredCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        offHeap = new OffHeapTaskStore("taskById", 64 * 1024, 2, Duration.ofMinutes(10));
+        cache = new TieredCaffeineCache("taskById", Caffeine.newBuilder().recordStats().build(), offHeap);
+    }
+
+    @Test
+    void shouldPromoteOffHeapHitsAfterHeapEviction() {
+        cache.put(1L, task(1L, "Write report"));
+        cache.getNativeCache().invalidate(1L);
+
+        assertThat(cache.get(1L, TaskResponse.class).getTitle()).isEqualTo("Write report");
+        assertThat(offHeap.hitCount()).isEqualTo(1);
+        assertThat(cache.getNativeCache().getIfPresent(1L)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictFromBothLevels() {
+        cache.put(1L, task(1L, "Write report"));
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(offHeap.size()).isZero();
+    }
+
+    @Test
+    void shouldNeverPromoteAnEntryRacingAnEviction() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2000; i++) {
+                cache.put(1L, task(1L, "Deleted"));
+                cache.getNativeCache().invalidate(1L);
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> reader = executor.submit(() -> {
+                    start.await();
+                    return cache.get(1L);
+                });
+                Future<?> evicter = executor.submit(() -> {
+                    start.await();
+                    cache.evict(1L);
+                    return null;
+                });
+                reader.get(5, TimeUnit.SECONDS);
+                evicter.get(5, TimeUnit.SECONDS);
+
+                assertThat(cache.getNativeCache().getIfPresent(1L)).isNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotOverwriteExistingEntryOnPutIfAbsent() {
+        cache.put(1L, task(1L, "Fresh"));
+        cache.putIfAbsent(1L, task(1L, "Stale"));
+        cache.getNativeCache().invalidate(1L);
+
+        assertThat(cache.get(1L, TaskResponse.class).getTitle()).isEqualTo("Fresh");
+    }
+
+    @Test
+    void shouldWeighTasksByPayload() {
+        TaskResponse bare = task(1L, "Short");
+        TaskResponse large = task(2L, "Short");
+        large.setDescription("x".repeat(1000));
+
+        assertThat(CacheWeights.weigh(2L, large) - CacheWeights.weigh(1L, bare)).isEqualTo(1000 + 40);
+    }
+
+    private TaskResponse task(Long id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, title, null, Task.Status.OPEN, Task.Priority.LOW, null, now, now);
+    }
+}
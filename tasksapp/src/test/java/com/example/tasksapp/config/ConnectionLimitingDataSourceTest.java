@@ -0,0 +1,64 @@
+package com.example.tasksapp.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionLimitingDataSourceTest {
+
+    @Test
+    void shouldReleasePermitWhenConnectionIsClosed() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(target, 1, 10, Duration.ofMillis(50));
+
+        Connection first = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(connection, times(1)).close();
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    void shouldRejectImmediatelyWhenTooManyThreadsWait() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(target, 1, 0, Duration.ofSeconds(30));
+
+        dataSource.getConnection();
+        long start = System.nanoTime();
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("waiting");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldReturnPermitWhenTargetFails() throws Exception {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new java.sql.SQLException("down"));
+        ConnectionLimitingDataSource dataSource =
+                new ConnectionLimitingDataSource(target, 1, 10, Duration.ofMillis(50));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.tasksapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("durable")
+class DurableStorageTest {
+
+    private static final Path STORAGE_DIR = createTempDirectory();
+
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) {
+        registry.add("tasks.storage.dir", STORAGE_DIR::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldBackUpOnlineAndRestoreIntoEmptyDirectory() throws Exception {
+        assertThat(STORAGE_DIR.resolve("taskdb.mv.db")).exists();
+        Integer tasks = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Integer.class);
+        assertThat(tasks).isPositive();
+
+        mockMvc.perform(post("/api/storage/backups"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.name").value(startsWith("taskdb-")));
+        mockMvc.perform(get("/api/storage/backups"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        Path restoreDir = STORAGE_DIR.resolve("restored");
+        DurableStorageConfig.restoreIfMissing(restoreDir, STORAGE_DIR.resolve("backups"), "latest", null);
+
+        try (Connection connection = DriverManager.getConnection(
+                "jdbc:h2:file:" + restoreDir.resolve("taskdb").toAbsolutePath(), "username", "pass");
+             ResultSet rs = connection.createStatement().executeQuery("SELECT COUNT(*) FROM tasks")) {
+            rs.next();
+            assertThat(rs.getInt(1)).isEqualTo(tasks);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            Path dir = Files.createTempDirectory("tasks-durable");
+            return dir;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
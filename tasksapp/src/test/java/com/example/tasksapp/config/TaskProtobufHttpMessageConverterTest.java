@@ -0,0 +1,30 @@
+package com.example.tasksapp.config;
+
+import com.example.tasksapp.dto.ImportReport;
+import com.example.tasksapp.dto.TaskResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import static com.example.tasksapp.config.TaskProtobufHttpMessageConverter.PROTOBUF;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskProtobufHttpMessageConverterTest {
+
+    private final TaskProtobufHttpMessageConverter converter = new TaskProtobufHttpMessageConverter();
+
+    @Test
+    void shouldWriteOnlyPagesDeclaredToHoldTasks() {
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(Page.class, TaskResponse.class).getType(),
+                PageImpl.class, PROTOBUF)).isTrue();
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(PageImpl.class, TaskResponse.class).getType(),
+                PageImpl.class, PROTOBUF)).isTrue();
+
+        assertThat(converter.canWrite(ResolvableType.forClassWithGenerics(Page.class, ImportReport.class).getType(),
+                PageImpl.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(Page.class, PageImpl.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(ImportReport.class, ImportReport.class, PROTOBUF)).isFalse();
+        assertThat(converter.canWrite(TaskResponse.class, TaskResponse.class, PROTOBUF)).isTrue();
+    }
+}
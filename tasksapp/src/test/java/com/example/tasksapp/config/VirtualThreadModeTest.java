@@ -0,0 +1,47 @@
+package com.example.tasksapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("virtual")
+class VirtualThreadModeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private PinnedThreadMonitor pinnedThreadMonitor;
+
+    @Test
+    void shouldLimitConnectionsAndRunAsyncWorkOnVirtualThreads() throws Exception {
+        assertThat(dataSource).isInstanceOf(ConnectionLimitingDataSource.class);
+        assertThat(pinnedThreadMonitor.isRunning()).isTrue();
+
+        AtomicBoolean virtual = new AtomicBoolean();
+        applicationTaskExecutor.submit(() -> virtual.set(Thread.currentThread().isVirtual())).get();
+        assertThat(virtual).isTrue();
+
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+        assertThat(((ConnectionLimitingDataSource) dataSource).availablePermits()).isEqualTo(10);
+    }
+}
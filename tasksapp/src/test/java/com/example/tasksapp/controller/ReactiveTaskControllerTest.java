@@ -0,0 +1,187 @@
+package com.example.tasksapp.controller;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.search.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private EventThreadRecorder eventThreads;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM tasks").fetch().rowsUpdated().block();
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void shouldListTasksWithSamePageContractAsServletApi() {
+        create("Write report", Task.Priority.HIGH);
+        create("Review report", Task.Priority.LOW);
+        create("Plan sprint", Task.Priority.HIGH);
+
+        webTestClient.get().uri("/api/tasks?priority=HIGH&size=1&sort=title,ASC")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].title").isEqualTo("Plan sprint")
+                .jsonPath("$.totalElements").isEqualTo(2)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.number").isEqualTo(0);
+
+        webTestClient.get().uri("/api/tasks?q=REPORT")
+                .exchange()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(2);
+    }
+
+    @Test
+    void shouldStreamListAsNdjson() {
+        create("First", null);
+        create("Second", null);
+
+        webTestClient.get().uri("/api/tasks?sort=title,ASC")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TaskResponse.class)
+                .value(tasks -> assertThat(tasks).extracting(TaskResponse::getTitle).containsExactly("First", "Second"));
+    }
+
+    @Test
+    void shouldCreateUpdateAndDeleteWithServletStatusCodes() {
+        TaskResponse created = create("Reactive task", Task.Priority.MEDIUM);
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getStatus()).isEqualTo(Task.Status.OPEN);
+        assertThat(created.getCreatedAt()).isNotNull();
+
+        TaskUpdateRequest update = new TaskUpdateRequest(null, null, Task.Status.DONE, null, LocalDate.of(2025, 12, 1));
+        webTestClient.patch().uri("/api/tasks/" + created.getId())
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Reactive task")
+                .jsonPath("$.status").isEqualTo("DONE")
+                .jsonPath("$.dueDate").isEqualTo("2025-12-01");
+
+        assertThat(searchIndex.search("reactive", Task.Status.DONE, null)).containsExactly(created.getId());
+
+        webTestClient.delete().uri("/api/tasks/" + created.getId()).exchange().expectStatus().isNoContent();
+        assertThat(databaseClient.sql("SELECT COUNT(*) AS n FROM task_tombstones WHERE task_id = :id")
+                .bind("id", created.getId())
+                .map(row -> row.get("n", Long.class))
+                .one()
+                .block()).isEqualTo(1L);
+        webTestClient.get().uri("/api/tasks/" + created.getId()).exchange().expectStatus().isNotFound();
+        webTestClient.delete().uri("/api/tasks/" + created.getId()).exchange().expectStatus().isNotFound();
+        webTestClient.patch().uri("/api/tasks/" + created.getId()).bodyValue(update).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldPublishTaskEventsOffTheEventLoop() {
+        eventThreads.threads.clear();
+        TaskResponse created = create("Off the loop", null);
+        webTestClient.patch().uri("/api/tasks/" + created.getId())
+                .bodyValue(new TaskUpdateRequest(null, null, Task.Status.DONE, null, null))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/api/tasks/" + created.getId()).exchange().expectStatus().isNoContent();
+
+        // loomBoundedElastic once an earlier context in this JVM turned on virtual threads
+        assertThat(eventThreads.threads).hasSize(3)
+                .allSatisfy(name -> assertThat(name).matches("(loomB|b)oundedElastic-\\d+"));
+    }
+
+    @Test
+    void shouldRejectInvalidTask() {
+        webTestClient.post().uri("/api/tasks")
+                .bodyValue(new TaskCreateRequest("", null, null, null, null))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldRejectBlankTitleOnUpdate() {
+        TaskResponse created = create("Keeps its title", null);
+
+        webTestClient.patch().uri("/api/tasks/" + created.getId())
+                .bodyValue(new TaskUpdateRequest(" ", null, null, null, null))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void shouldExportCsvWithHeader() {
+        create("Exported", Task.Priority.LOW);
+
+        webTestClient.get().uri("/api/tasks/export?format=csv")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith("text/csv")
+                .expectHeader().value("Content-Disposition", startsWith("attachment"))
+                .expectBody(String.class)
+                .value(csv -> assertThat(csv.split("\n"))
+                        .hasSize(2)
+                        .satisfies(lines -> assertThat(lines[0]).startsWith("id,title,description,status,priority"))
+                        .satisfies(lines -> assertThat(lines[1]).contains(",Exported,,OPEN,LOW,")));
+
+        webTestClient.get().uri("/api/tasks/export?format=xml").exchange().expectStatus().isBadRequest();
+    }
+
+    @TestConfiguration
+    static class EventThreadRecorder {
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onTaskChanged(TaskChangedEvent event) {
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    private TaskResponse create(String title, Task.Priority priority) {
+        return webTestClient.post().uri("/api/tasks")
+                .bodyValue(new TaskCreateRequest(title, null, null, priority, null))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TaskResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
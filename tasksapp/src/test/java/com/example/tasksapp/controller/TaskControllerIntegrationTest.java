@@ -1,20 +1,47 @@
 package com.example.tasksapp.controller;
 
+import com.example.tasksapp.dto.TaskBulkUpdateRequest;
 import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.mapper.TaskProtoMapper;
 import com.example.tasksapp.model.Task;
+import com.example.tasksapp.proto.Priority;
+import com.example.tasksapp.proto.Status;
+import com.example.tasksapp.proto.TaskCreateMessage;
+import com.example.tasksapp.proto.TaskMessage;
+import com.example.tasksapp.proto.TaskPageMessage;
+import com.example.tasksapp.proto.TaskUpdateMessage;
 import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.service.TaskDueScheduler;
+import com.example.tasksapp.service.TaskFacetCounter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +59,18 @@ class TaskControllerIntegrationTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskFacetCounter facetCounter;
+
+    @Autowired
+    private TaskDueScheduler dueScheduler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         taskRepository.deleteAll();
@@ -63,6 +102,193 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.number").value(1));
     }
 
+    @Test
+    void shouldScrollThroughTasksWithCursor() throws Exception {
+        createSampleTasks(5);
+        List<Integer> seen = new ArrayList<>();
+        String cursor = null;
+
+        for (int page = 0; page < 3; page++) {
+            var request = get("/api/tasks/scroll").param("size", "2").param("sort", "title,ASC");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            MvcResult result = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn();
+
+            String body = result.getResponse().getContentAsString();
+            seen.addAll(JsonPath.read(body, "$.content[*].id"));
+            cursor = JsonPath.read(body, "$.next");
+            boolean hasNext = JsonPath.read(body, "$.hasNext");
+            assertThat(hasNext).isEqualTo(page < 2);
+        }
+
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        assertThat(cursor).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursorAndNullableSortKeys() throws Exception {
+        mockMvc.perform(get("/api/tasks/scroll").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/tasks/scroll").param("sort", "dueDate,ASC"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldServeRepeatedListFromCacheAndRefreshAfterWrite() throws Exception {
+        createSampleTasks(3);
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(jsonPath("$.totalElements").value(3));
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(jsonPath("$.totalElements").value(3));
+
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'taskLists')].hits", hasItem(greaterThanOrEqualTo(1))));
+
+        createTaskWithStatus(Task.Status.OPEN);
+
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(jsonPath("$.totalElements").value(4));
+    }
+
+    @Test
+    void shouldCountFacetsAndFollowWrites() throws Exception {
+        createSampleTasks(2);
+        createTaskWithPriority(Task.Priority.HIGH);
+        createTaskWithStatus(Task.Status.DONE);
+        Task overdue = createTaskWithDueDate(LocalDate.now().minusDays(1));
+        createTaskWithDueDate(LocalDate.now());
+
+        mockMvc.perform(get("/api/tasks/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(6))
+                .andExpect(jsonPath("$.byStatus.OPEN").value(5))
+                .andExpect(jsonPath("$.byStatus.DONE").value(1))
+                .andExpect(jsonPath("$.byPriority.MEDIUM").value(2))
+                .andExpect(jsonPath("$.byPriority.NONE").value(3))
+                .andExpect(jsonPath("$.byStatusAndPriority.OPEN.HIGH").value(1))
+                .andExpect(jsonPath("$.overdue").value(1))
+                .andExpect(jsonPath("$.dueThisWeek").value(1));
+
+        TaskUpdateRequest done = new TaskUpdateRequest();
+        done.setStatus(Task.Status.DONE);
+        mockMvc.perform(patch("/api/tasks/" + overdue.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(done)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/facets"))
+                .andExpect(jsonPath("$.byStatus.DONE").value(2))
+                .andExpect(jsonPath("$.overdue").value(0));
+        assertThat(facetCounter.isReady()).isTrue();
+        String counted = mockMvc.perform(get("/api/tasks/facets")).andReturn().getResponse().getContentAsString();
+        assertThat(facetCounter.reconcile()).isTrue();
+        mockMvc.perform(get("/api/tasks/facets")).andExpect(content().json(counted));
+    }
+
+    @Test
+    void shouldAnnounceOverdueOnceWhenDueDateMovesIntoThePast() throws Exception {
+        Task task = createTaskWithDueDate(LocalDate.now().plusDays(30));
+        dueScheduler.fireDue();
+        FunctionCounter overdue = meterRegistry.get("tasks.due.events").tag("type", "OVERDUE").functionCounter();
+        double before = overdue.count();
+
+        TaskUpdateRequest update = new TaskUpdateRequest();
+        update.setDueDate(LocalDate.now().minusDays(1));
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        dueScheduler.fireDue();
+        assertThat(overdue.count()).isEqualTo(before + 1);
+
+        update.setTitle("Renamed");
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        dueScheduler.fireDue();
+        assertThat(overdue.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldNegotiateCborAndSmileForListsAndRequestBodies() throws Exception {
+        createSampleTasks(3);
+        ObjectMapper cbor = new CBORMapper().findAndRegisterModules();
+
+        byte[] page = mockMvc.perform(get("/api/tasks").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(cbor.readTree(page).get("totalElements").asInt()).isEqualTo(3);
+
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Binary task");
+        request.setDueDate(LocalDate.of(2026, 5, 1));
+        ObjectMapper smile = new SmileMapper().findAndRegisterModules();
+        byte[] created = mockMvc.perform(post("/api/tasks")
+                        .contentType("application/x-jackson-smile")
+                        .accept("application/x-jackson-smile")
+                        .content(smile.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+        TaskResponse task = smile.readValue(created, TaskResponse.class);
+        assertThat(task.getTitle()).isEqualTo("Binary task");
+        assertThat(task.getDueDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+    }
+
+    @Test
+    void shouldNegotiateProtobufForTaskPayloads() throws Exception {
+        createSampleTasks(3);
+
+        byte[] page = mockMvc.perform(get("/api/tasks").param("size", "2").accept("application/x-protobuf"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-protobuf"))
+                .andReturn().getResponse().getContentAsByteArray();
+        TaskPageMessage message = TaskPageMessage.parseFrom(page);
+        assertThat(message.getTotalElements()).isEqualTo(3);
+        assertThat(message.getContentList()).hasSize(2)
+                .allSatisfy(task -> assertThat(task.getPriority()).isEqualTo(Priority.MEDIUM));
+
+        TaskCreateMessage create = TaskCreateMessage.newBuilder()
+                .setTitle("Proto task").setPriority(Priority.HIGH).setDueDate((int) LocalDate.of(2026, 5, 1).toEpochDay())
+                .build();
+        byte[] created = mockMvc.perform(post("/api/tasks")
+                        .contentType("application/x-protobuf")
+                        .accept("application/x-protobuf")
+                        .content(create.toByteArray()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+        TaskResponse task = TaskProtoMapper.fromMessage(TaskMessage.parseFrom(created));
+        assertThat(task.getStatus()).isEqualTo(Task.Status.OPEN);
+        assertThat(task.getDueDate()).isEqualTo(LocalDate.of(2026, 5, 1));
+        assertThat(task.getUpdatedAt()).isEqualTo(taskRepository.findById(task.getId()).orElseThrow().getUpdatedAt());
+
+        TaskUpdateMessage update = TaskUpdateMessage.newBuilder().setStatus(Status.DONE).build();
+        byte[] updated = mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType("application/x-protobuf")
+                        .accept("application/x-protobuf")
+                        .content(update.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        TaskMessage done = TaskMessage.parseFrom(updated);
+        assertThat(done.getStatus()).isEqualTo(Status.DONE);
+        assertThat(done.getTitle()).isEqualTo("Proto task");
+        assertThat(done.getPriority()).isEqualTo(Priority.HIGH);
+
+        mockMvc.perform(post("/api/tasks")
+                        .contentType("application/x-protobuf")
+                        .content(TaskCreateMessage.getDefaultInstance().toByteArray()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/facets").accept("application/x-protobuf"))
+                .andExpect(status().isNotAcceptable());
+    }
+
     @Test
     void shouldFilterTasksByStatus() throws Exception {
         createTaskWithStatus(Task.Status.OPEN);
@@ -101,6 +327,191 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(2)));
     }
 
+    @Test
+    void shouldSearchWithFiltersAndRankTitleMatchesFirst() throws Exception {
+        createTask("Shopping list", "Buy milk for the important guests", Task.Status.OPEN);
+        createTask("Important meeting", "Quarterly review", Task.Status.OPEN);
+        createTask("Important deadline", "Ship the release", Task.Status.DONE);
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("q", "import")
+                        .param("status", "OPEN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Important meeting"))
+                .andExpect(jsonPath("$.content[1].title").value("Shopping list"));
+    }
+
+    @Test
+    void shouldAnswerConditionalGetOfTaskWithNotModified() throws Exception {
+        Task task = createTaskWithTitle("Conditional");
+
+        MvcResult first = mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/");
+        assertThat(first.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified());
+
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setTitle("Changed");
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.title").value("Changed"));
+    }
+
+    @Test
+    void shouldAnswerConditionalGetOfListWithNotModified() throws Exception {
+        createTaskWithTitle("First");
+
+        String etag = mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        Task second = createTaskWithTitle("Second");
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+
+        String withSecond = mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(delete("/api/tasks/" + second.getId())).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN").header(HttpHeaders.IF_NONE_MATCH, withSecond))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
+    @Test
+    void shouldReturnChangesAndTombstonesSinceWatermark() throws Exception {
+        String watermark = drainChanges(null);
+        Task kept = createTaskWithTitle("Kept");
+        Task removed = createTaskWithTitle("Removed");
+
+        String afterCreate = mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[*].title", contains("Kept", "Removed")))
+                .andExpect(jsonPath("$.deleted", hasSize(0)))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+        watermark = JsonPath.read(afterCreate, "$.watermark");
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(jsonPath("$.changed", hasSize(0)))
+                .andExpect(jsonPath("$.watermark").value(watermark));
+
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setStatus(Task.Status.DONE);
+        mockMvc.perform(patch("/api/tasks/" + kept.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateRequest)));
+        mockMvc.perform(delete("/api/tasks/" + removed.getId()));
+
+        String firstBatch = mockMvc.perform(get("/api/tasks/changes").param("since", watermark).param("limit", "1"))
+                .andExpect(jsonPath("$.changed[0].id").value(kept.getId()))
+                .andExpect(jsonPath("$.changed[0].status").value("DONE"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/tasks/changes").param("since", JsonPath.<String>read(firstBatch, "$.watermark")))
+                .andExpect(jsonPath("$.changed", hasSize(0)))
+                .andExpect(jsonPath("$.deleted[0].id").value(removed.getId()))
+                .andExpect(jsonPath("$.deleted[0].deletedAt").exists())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void shouldNotSkipAChangeThatCommitsAfterALaterOne() throws Exception {
+        Task early = createTaskWithTitle("Early");
+        Task late = createTaskWithTitle("Late");
+        String watermark = drainChanges(null);
+
+        // Takes its change number first but commits last
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                    Task task = taskRepository.findById(early.getId()).orElseThrow();
+                    task.setTitle("Early, committed last");
+                    taskRepository.saveAndFlush(task);
+                    written.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setStatus(Task.Status.DONE);
+        mockMvc.perform(patch("/api/tasks/" + late.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(jsonPath("$.changed", hasSize(0)))
+                .andExpect(jsonPath("$.watermark").value(watermark));
+
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+        mockMvc.perform(get("/api/tasks/changes").param("since", watermark))
+                .andExpect(jsonPath("$.changed[*].title", contains("Early, committed last", "Late")))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void shouldRejectInvalidChangesWatermark() throws Exception {
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not-a-watermark"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldStreamCommittedChangesAsServerSentEvents() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream").param("status", "OPEN")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle("Streamed");
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        String body = "";
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!body.contains("Streamed") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = stream.getResponse().getContentAsString();
+        }
+        assertThat(body).contains("event:task").contains("\"type\":\"CREATED\"").contains("\"title\":\"Streamed\"");
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
     @Test
     void shouldCreateTask() throws Exception {
         TaskCreateRequest request = new TaskCreateRequest();
@@ -164,6 +575,34 @@ class TaskControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("DONE"));
     }
 
+    @Test
+    void shouldKeepCachedReadsInSyncWithPatchAndDelete() throws Exception {
+        Task task = createTaskWithTitle("Cached");
+        mockMvc.perform(get("/api/tasks/" + task.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(jsonPath("$.content", hasSize(1)));
+
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setStatus(Task.Status.DONE);
+        String patched = mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(objectMapper.readTree(patched).get("updatedAt").asText())
+                .isEqualTo(objectMapper.valueToTree(stored.getUpdatedAt()).asText());
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(jsonPath("$.status").value("DONE"));
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN"))
+                .andExpect(jsonPath("$.content", hasSize(0)));
+
+        mockMvc.perform(delete("/api/tasks/" + task.getId())).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/tasks/" + task.getId())).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/tasks/" + task.getId())).andExpect(status().isNotFound());
+    }
+
     @Test
     void shouldReturnNotFoundWhenUpdatingNonExistentTask() throws Exception {
         TaskUpdateRequest updateRequest = new TaskUpdateRequest();
@@ -175,6 +614,18 @@ class TaskControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldRejectBlankTitleOnUpdateOfExistingTask() throws Exception {
+        Task task = createTaskWithTitle("Keeps its title");
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setTitle(" ");
+
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldDeleteTask() throws Exception {
         Task task = createTaskWithTitle("Task to delete");
@@ -193,6 +644,218 @@ class TaskControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void shouldBulkCreateTasksReportingInvalidItems() throws Exception {
+        TaskCreateRequest valid = new TaskCreateRequest();
+        valid.setTitle("Bulk task");
+        valid.setPriority(Task.Priority.HIGH);
+        TaskCreateRequest invalid = new TaskCreateRequest();
+        invalid.setDescription("No title");
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid, valid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].status").value(201))
+                .andExpect(jsonPath("$.items[0].task.status").value("OPEN"))
+                .andExpect(jsonPath("$.items[1].status").value(400))
+                .andExpect(jsonPath("$.items[1].error").value("Title is required"))
+                .andExpect(jsonPath("$.items[2].id").exists());
+
+        assertThat(taskRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBulkUpdateTasksAndRefreshCachedTask() throws Exception {
+        Task task = createTaskWithTitle("Original Title");
+        mockMvc.perform(get("/api/tasks/" + task.getId())).andExpect(status().isOk());
+
+        TaskBulkUpdateRequest update = new TaskBulkUpdateRequest();
+        update.setId(task.getId());
+        update.setStatus(Task.Status.DONE);
+        TaskBulkUpdateRequest missing = new TaskBulkUpdateRequest();
+        missing.setId(9999L);
+        missing.setTitle("Nope");
+        TaskBulkUpdateRequest blank = new TaskBulkUpdateRequest();
+        blank.setId(task.getId());
+        blank.setTitle(" ");
+
+        mockMvc.perform(patch("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(update, null, missing, blank))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].status").value(200))
+                .andExpect(jsonPath("$.items[0].task.title").value("Original Title"))
+                .andExpect(jsonPath("$.items[0].task.status").value("DONE"))
+                .andExpect(jsonPath("$.items[1].status").value(400))
+                .andExpect(jsonPath("$.items[1].error").value("Item is required"))
+                .andExpect(jsonPath("$.items[2].status").value(404))
+                .andExpect(jsonPath("$.items[3].status").value(400))
+                .andExpect(jsonPath("$.items[3].error").value("Title is required"));
+
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(jsonPath("$.status").value("DONE"));
+    }
+
+    @Test
+    void shouldBulkDeleteTasks() throws Exception {
+        Task first = createTaskWithTitle("First");
+        Task second = createTaskWithTitle("Second");
+        mockMvc.perform(get("/api/tasks/" + first.getId())).andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(first.getId(), 9999L, second.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.items[*].status", contains(204, 404, 204)));
+
+        mockMvc.perform(get("/api/tasks/" + first.getId()))
+                .andExpect(status().isNotFound());
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldExportFilteredTasksAsCsv() throws Exception {
+        createTask("Quarterly report", "Numbers, \"quoted\" and more", Task.Status.OPEN);
+        createTask("Closed item", null, Task.Status.DONE);
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                        .param("format", "csv")
+                        .param("status", "OPEN"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andExpect(header().string("Content-Disposition", containsString("tasks.csv")));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).isEqualTo("id,title,description,status,priority,dueDate,createdAt,updatedAt");
+        assertThat(lines[1]).contains("\"Numbers, \"\"quoted\"\" and more\"", "OPEN");
+    }
+
+    @Test
+    void shouldExportTasksAsNdjsonInRequestedOrder() throws Exception {
+        createTaskWithDueDate(LocalDate.of(2025, 10, 15));
+        createTaskWithDueDate(LocalDate.of(2025, 10, 10));
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                        .param("format", "ndjson")
+                        .param("sort", "dueDate,ASC"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("dueDate").asText()).isEqualTo("2025-10-10");
+        assertThat(objectMapper.readTree(lines[1]).get("dueDate").asText()).isEqualTo("2025-10-15");
+    }
+
+    @Test
+    void shouldRejectUnknownExportFormat() throws Exception {
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldImportCsvReportingRowErrors() throws Exception {
+        String csv = """
+                title,description,status,priority,dueDate
+                First import,From CSV,OPEN,HIGH,2025-11-01
+                ,Missing title,OPEN,LOW,
+                Second import,,DONE,,
+                Bad status,,UNKNOWN,LOW,
+                %s,Too long for the column,OPEN,LOW,
+                """.formatted("x".repeat(256));
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.processed").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Title is required"))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[2].line").value(6))
+                .andExpect(jsonPath("$.errors[2].message").value("Title must be at most 255 characters"));
+
+        mockMvc.perform(get("/api/tasks").param("q", "import"))
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void shouldImportNdjsonAndListJobProgress() throws Exception {
+        String ndjson = """
+                {"title":"Imported one","priority":"LOW"}
+                {"title":"Imported two","status":"IN_PROGRESS"}
+                """;
+
+        MvcResult result = mockMvc.perform(post("/api/tasks/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0))
+                .andReturn();
+        String jobId = JsonPath.read(result.getResponse().getContentAsString(), "$.jobId");
+
+        mockMvc.perform(get("/api/tasks/import/" + jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(2));
+        assertThat(taskRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipMalformedNdjsonLines() throws Exception {
+        String ndjson = """
+                {"title":"Imported one"}
+                {"title": "Broken",
+                {"title":"Imported two","dueDate":"not a date"}
+                {"title":"Imported three"}
+                """;
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[*].line", contains(2, 3)));
+    }
+
+    @Test
+    void shouldSkipMalformedCsvLines() throws Exception {
+        String csv = """
+                title,description,status,priority,dueDate
+                First import,,OPEN,HIGH,
+                Too many,,OPEN,HIGH,,extra
+                Bad date,,OPEN,HIGH,yesterday
+                Second import,,OPEN,LOW,
+                """;
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[*].line", contains(3, 4)));
+    }
+
     @Test
     void shouldSortTasksByDueDateAscending() throws Exception {
         createTaskWithDueDate(LocalDate.of(2025, 10, 15));
@@ -233,6 +896,18 @@ class TaskControllerIntegrationTest {
         return taskRepository.save(task);
     }
 
+    private String drainChanges(String since) throws Exception {
+        while (true) {
+            String body = mockMvc.perform(get("/api/tasks/changes").param("limit", "1000")
+                            .param("since", since != null ? since : ""))
+                    .andReturn().getResponse().getContentAsString();
+            since = JsonPath.read(body, "$.watermark");
+            if (!JsonPath.<Boolean>read(body, "$.hasMore")) {
+                return since;
+            }
+        }
+    }
+
     private Task createTaskWithTitle(String title) {
         Task task = new Task();
         task.setTitle(title);
@@ -240,6 +915,14 @@ class TaskControllerIntegrationTest {
         return taskRepository.save(task);
     }
 
+    private Task createTask(String title, String description, Task.Status status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        return taskRepository.save(task);
+    }
+
     private Task createTaskWithDueDate(LocalDate dueDate) {
         Task task = new Task();
         task.setTitle("Task");
@@ -0,0 +1,64 @@
+package com.example.tasksapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms (microseconds, 3 significant digits) and error counts.
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<TaskLoadTest.Operation, Histogram> histograms = new EnumMap<>(TaskLoadTest.Operation.class);
+    private final Map<TaskLoadTest.Operation, LongAdder> errors = new EnumMap<>(TaskLoadTest.Operation.class);
+
+    LatencyReport() {
+        for (TaskLoadTest.Operation operation : TaskLoadTest.Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(TaskLoadTest.Operation operation, long elapsedNanos, boolean ok) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!ok) {
+            errors.get(operation).increment();
+        }
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    String format(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder sb = new StringBuilder(String.format("%-8s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Histogram all = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        for (TaskLoadTest.Operation operation : TaskLoadTest.Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            all.add(histogram);
+            sb.append(line(operation.name(), histogram, errors.get(operation).sum(), seconds));
+        }
+        sb.append(line("ALL", all, totalErrors(), seconds));
+        return sb.toString();
+    }
+
+    private String line(String name, Histogram histogram, long errorCount, double seconds) {
+        return String.format("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errorCount, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.tasksapp.loadtest;
+
+import com.example.tasksapp.TaskFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Closed-loop HTTP load against the running app on a random port, reporting throughput and
+ * latency percentiles per endpoint. Every client draws its operations from
+ * {@code Random(seed + client)}, so a run with the same settings replays the same requests.
+ * <p>
+ * Run with {@code ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true} and optionally
+ * {@code -Dloadtest.rows=10000 -Dloadtest.clients=16 -Dloadtest.requests=2000 -Dloadtest.warmup=200
+ * -Dloadtest.seed=42 -Dloadtest.mix=list:40,search:20,get:25,create:5,patch:5,delete:5}
+ * ({@code requests} and {@code warmup} are per client).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.root=WARN")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class TaskLoadTest {
+
+    enum Operation {
+        LIST, SEARCH, GET, CREATE, PATCH, DELETE
+    }
+
+    private static final String[] SORTS = {"updatedAt,DESC", "dueDate,ASC", "title,ASC"};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private long[] seededIds;
+
+    @Test
+    void runLoad() throws Exception {
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int clients = Integer.getInteger("loadtest.clients", 16);
+        int requests = Integer.getInteger("loadtest.requests", 2_000);
+        int warmup = Integer.getInteger("loadtest.warmup", 200);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix",
+                "list:40,search:20,get:25,create:5,patch:5,delete:5"));
+
+        seed(rows, new Random(seed));
+
+        LatencyReport warmupReport = new LatencyReport();
+        LatencyReport report = new LatencyReport();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        long start;
+        long elapsed;
+        try {
+            List<Random> randoms = new ArrayList<>();
+            List<Deque<Long>> ownIds = new ArrayList<>();
+            for (int client = 0; client < clients; client++) {
+                randoms.add(new Random(seed + client));
+                ownIds.add(new ArrayDeque<>());
+            }
+            run(executor, clients, warmup, mix, randoms, ownIds, warmupReport);
+            start = System.nanoTime();
+            run(executor, clients, requests, mix, randoms, ownIds, report);
+            elapsed = System.nanoTime() - start;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        System.out.printf("%nLoad test: rows=%d clients=%d requests/client=%d warmup/client=%d seed=%d mix=%s%n",
+                rows, clients, requests, warmup, seed, mix);
+        System.out.println(report.format(elapsed));
+        assertThat(report.totalErrors()).isZero();
+    }
+
+    private void run(ExecutorService executor, int clients, int requests, Map<Operation, Integer> mix,
+                     List<Random> randoms, List<Deque<Long>> ownIds, LatencyReport report) throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int client = 0; client < clients; client++) {
+            Random random = randoms.get(client);
+            Deque<Long> ids = ownIds.get(client);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < requests; i++) {
+                    execute(pick(mix, random), random, ids, report);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void execute(Operation operation, Random random, Deque<Long> ownIds, LatencyReport report)
+            throws IOException, InterruptedException {
+        if (operation == Operation.DELETE && ownIds.isEmpty()) {
+            operation = Operation.CREATE;
+        }
+        HttpRequest request;
+        int expected = 200;
+        switch (operation) {
+            case LIST -> {
+                String filter = random.nextBoolean() ? "&status=" + TaskFixtures.STATUSES[random.nextInt(3)] : "";
+                request = get("/api/tasks?page=" + random.nextInt(5) + "&size=20&sort="
+                        + SORTS[random.nextInt(SORTS.length)] + filter);
+            }
+            case SEARCH -> request = get("/api/tasks?size=20&q=" + TaskFixtures.sentence(random, 1 + random.nextInt(2)).replace(' ', '+'));
+            case GET -> request = get("/api/tasks/" + seededId(random));
+            case CREATE -> {
+                request = send("POST", "/api/tasks", taskJson(random));
+                expected = 201;
+            }
+            case PATCH -> request = send("PATCH", "/api/tasks/" + seededId(random),
+                    "{\"status\":\"" + TaskFixtures.STATUSES[random.nextInt(3)] + "\"}");
+            case DELETE -> {
+                request = HttpRequest.newBuilder(uri("/api/tasks/" + ownIds.poll())).DELETE().build();
+                expected = 204;
+            }
+            default -> throw new IllegalStateException("Unexpected operation: " + operation);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        report.record(operation, elapsed, response.statusCode() == expected);
+
+        if (operation == Operation.CREATE && response.statusCode() == 201) {
+            ownIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        }
+    }
+
+    private Operation pick(Map<Operation, Integer> mix, Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty mix");
+    }
+
+    private Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] entry = part.trim().split(":");
+            mix.put(Operation.valueOf(entry[0].trim().toUpperCase()), Integer.parseInt(entry[1].trim()));
+        }
+        return mix;
+    }
+
+    private long seededId(Random random) {
+        return seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private String taskJson(Random random) {
+        return "{\"title\":\"" + TaskFixtures.sentence(random, 4) + "\",\"description\":\"" + TaskFixtures.sentence(random, 12)
+                + "\",\"priority\":\"" + TaskFixtures.PRIORITIES[random.nextInt(3)] + "\"}";
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void seed(int rows, Random random) {
+        jdbcTemplate.update("DELETE FROM tasks");
+        TaskFixtures.seed(jdbcTemplate, rows, random);
+        TaskFixtures.refresh(context);
+        seededIds = jdbcTemplate.queryForList("SELECT id FROM tasks ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
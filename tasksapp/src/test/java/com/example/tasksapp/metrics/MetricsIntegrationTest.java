@@ -0,0 +1,68 @@
+package com.example.tasksapp.metrics;
+
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void shouldExposeServiceCacheQueryAndPoolMetricsForPrometheus() throws Exception {
+        Task task = new Task();
+        task.setTitle("Metrics task");
+        Long id = taskRepository.save(task).getId();
+
+        mockMvc.perform(get("/api/tasks").param("status", "OPEN")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/" + id)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/-1")).andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_pending")))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("tasks_service_seconds_count\\{[^}]*method=\"getTasks\"")
+                .containsPattern("tasks_query_seconds_count\\{[^}]*path=\"database\",shape=\"status\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"taskById\"[^}]*result=\"hit\"")
+                .containsPattern("cache_gets_total\\{[^}]*cache=\"taskLists\"")
+                .contains("cache_evictions_total")
+                // a 404 is an answer, not a failure
+                .doesNotContainPattern("tasks_service_errors_total\\{[^}]*method=\"getTaskVersion\"");
+    }
+
+    @Test
+    void shouldReportReadyOnceWarmUpHasRun() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"UP\"")));
+    }
+
+    @Test
+    void shouldDescribeFilterShape() {
+        assertThat(TaskQueryMetricsAspect.shape(null, null, null)).isEqualTo("none");
+        assertThat(TaskQueryMetricsAspect.shape(Task.Status.OPEN, Task.Priority.HIGH, " ")).isEqualTo("status_priority");
+        assertThat(TaskQueryMetricsAspect.shape(null, Task.Priority.LOW, "report")).isEqualTo("priority_search");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tasksapp.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskChangeHorizonTest {
+
+    private final TaskChangeLog changeLog = mock(TaskChangeLog.class);
+    private final TaskChangeHorizon horizon = new TaskChangeHorizon(changeLog);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void shouldCapTheHorizonAtTheOldestOpenWriter() {
+        long first = horizon.open(10);
+        horizon.open(12);
+
+        assertThat(horizon.horizon(15)).isEqualTo(10);
+        horizon.close(first);
+        assertThat(horizon.horizon(15)).isEqualTo(12);
+        assertThat(horizon.isOpenUpTo(first)).isFalse();
+        assertThat(horizon.isOpenUpTo(first + 1)).isTrue();
+    }
+
+    @Test
+    void shouldKeepATransactionOpenUntilItsEventListenersRan() {
+        when(changeLog.latestChangeSeq()).thenReturn(7L);
+        horizon.joinCurrentTransaction();
+        horizon.joinCurrentTransaction();
+        List<Integer> openDuringListeners = new ArrayList<>();
+        // Registered on publishing, as a transactional event listener is
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                openDuringListeners.add(horizon.openCount());
+            }
+        });
+        horizon.holdPastListeners();
+
+        assertThat(horizon.horizon(9)).isEqualTo(7);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(openDuringListeners).containsExactly(1);
+        assertThat(horizon.openCount()).isZero();
+        assertThat(TransactionSynchronizationManager.hasResource(horizon)).isFalse();
+    }
+}
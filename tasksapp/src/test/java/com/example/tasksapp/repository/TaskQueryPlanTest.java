@@ -0,0 +1,121 @@
+package com.example.tasksapp.repository;
+
+import com.example.tasksapp.model.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs H2's EXPLAIN on the SQL Hibernate actually generates for the list queries, so a change
+ * to the query or the schema that drops back to a table scan fails here instead of in production.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.tasksapp.repository.TaskQueryPlanTest$CapturingInspector")
+class TaskQueryPlanTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void statusAndPriorityFilterShouldUseCompositeIndex() {
+        List<String> plans = explain(() -> taskRepository.findTasks(
+                Task.Status.OPEN, Task.Priority.HIGH, null, newestFirst()));
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan)
+                .contains("IDX_TASKS_STATUS_PRIORITY_UPDATED")
+                .doesNotContainIgnoringCase("tableScan"));
+    }
+
+    @Test
+    void statusFilterShouldUseCompositeIndexPrefix() {
+        List<String> plans = explain(() -> taskRepository.findTasks(Task.Status.DONE, null, null, newestFirst()));
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).contains("IDX_TASKS_STATUS_PRIORITY_UPDATED"));
+    }
+
+    @Test
+    void priorityFilterShouldUsePriorityIndex() {
+        List<String> plans = explain(() -> taskRepository.findTasks(null, Task.Priority.LOW, null, newestFirst()));
+
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).contains("IDX_TASKS_PRIORITY_UPDATED"));
+    }
+
+    @Test
+    void unfilteredListShouldReadUpdatedAtIndexInOrder() {
+        List<String> plans = explain(() -> taskRepository.findTasks(null, null, null, newestFirst()));
+
+        assertThat(plans.get(0)).contains("IDX_TASKS_UPDATED").contains("index sorted");
+    }
+
+    @Test
+    void dueDateSortShouldReadDueDateIndexInOrder() {
+        List<String> plans = explain(() -> taskRepository.findTasks(
+                null, null, null, PageRequest.of(0, 10, Sort.by("dueDate"))));
+
+        assertThat(plans.get(0)).contains("IDX_TASKS_DUE_DATE").contains("index sorted");
+    }
+
+    @Test
+    void dueDateRecoveryShouldRangeScanDueDateIndex() {
+        List<String> plans = explain(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try (Stream<TaskDueDate> tasks = taskRepository.streamDueFrom(LocalDate.now())) {
+                tasks.count();
+            }
+        }));
+
+        assertThat(plans.get(0)).contains("IDX_TASKS_DUE_DATE").doesNotContainIgnoringCase("tableScan");
+    }
+
+    private Pageable newestFirst() {
+        return PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"));
+    }
+
+    private List<String> explain(Runnable query) {
+        query.run();
+        List<String> selects = CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select"))
+                .toList();
+        assertThat(selects).isNotEmpty();
+        return selects.stream()
+                .map(sql -> jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class))
+                .toList();
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
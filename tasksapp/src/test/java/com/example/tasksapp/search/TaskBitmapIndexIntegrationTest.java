@@ -0,0 +1,90 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.dto.TaskCreateRequest;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = "tasks.query.bitmap-index.enabled=true")
+class TaskBitmapIndexIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskBitmapIndex bitmapIndex;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldAnswerListQueriesLikeTheDatabaseAfterCommittedWrites() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Bitmap task " + i);
+            request.setPriority(Task.Priority.values()[i % 3]);
+            ids.add(taskService.createTask(request).getId());
+        }
+        for (int i = 0; i < ids.size(); i += 4) {
+            TaskUpdateRequest request = new TaskUpdateRequest();
+            request.setStatus(i % 8 == 0 ? Task.Status.DONE : Task.Status.IN_PROGRESS);
+            taskService.updateTask(ids.get(i), request);
+        }
+        for (int i = 1; i < ids.size(); i += 5) {
+            taskService.deleteTask(ids.get(i));
+        }
+
+        assertThat(bitmapIndex.isReady()).isTrue();
+        assertThat(bitmapIndex.size()).isEqualTo(taskRepository.count());
+        List<Task.Status> statuses = new ArrayList<>(Arrays.asList(Task.Status.values()));
+        statuses.add(null);
+        List<Task.Priority> priorities = new ArrayList<>(Arrays.asList(Task.Priority.values()));
+        priorities.add(null);
+        for (Task.Status status : statuses) {
+            for (Task.Priority priority : priorities) {
+                for (Sort sort : List.of(Sort.by(Sort.Direction.DESC, "updatedAt"), Sort.by("updatedAt"),
+                        Sort.by(Sort.Direction.DESC, "id"))) {
+                    for (int page = 0; page < 3; page++) {
+                        Pageable pageable = PageRequest.of(page, 4, sort);
+                        Page<TaskResponse> expected = taskRepository.findTaskResponses(status, priority, null, pageable);
+                        Page<TaskResponse> actual = taskService.getTasks(status, priority, null, pageable);
+
+                        assertThat(actual.getTotalElements()).isEqualTo(expected.getTotalElements());
+                        // updatedAt ties may come back in either order, so compare the sort key too
+                        assertThat(actual.getContent()).extracting(TaskResponse::getUpdatedAt)
+                                .isEqualTo(expected.getContent().stream().map(TaskResponse::getUpdatedAt).toList());
+                        if (sort.getOrderFor("id") != null) {
+                            assertThat(actual.getContent()).extracting(TaskResponse::getId)
+                                    .isEqualTo(expected.getContent().stream().map(TaskResponse::getId).toList());
+                        }
+                    }
+                    assertThat(taskService.getTasksVersion(status, priority, null))
+                            .isEqualTo(taskRepository.findVersion(status, priority, null));
+                }
+            }
+        }
+        assertThat(meterRegistry.find("tasks.query").tag("path", "bitmap").timers()).isNotEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TaskBitmapIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final Sort RECENT_FIRST = Sort.by(Sort.Direction.DESC, "updatedAt");
+
+    private TaskBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskBitmapIndex(mock(TaskRepository.class));
+        ReflectionTestUtils.setField(index, "enabled", true);
+        // updatedAt runs against id order, so the two sorts differ
+        index.rebuild(Stream.of(
+                snapshot(1L, Task.Status.OPEN, Task.Priority.HIGH, 50),
+                snapshot(2L, Task.Status.DONE, Task.Priority.LOW, 40),
+                snapshot(3L, Task.Status.OPEN, Task.Priority.LOW, 30),
+                snapshot(4L, Task.Status.IN_PROGRESS, null, 20),
+                snapshot(5L, Task.Status.OPEN, Task.Priority.HIGH, 10)
+        ));
+    }
+
+    @Test
+    void shouldIntersectFiltersAndCountExactly() {
+        Page<Long> page = index.query(Task.Status.OPEN, Task.Priority.HIGH, PageRequest.of(0, 10, RECENT_FIRST));
+
+        assertThat(page.getContent()).containsExactly(1L, 5L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(index.query(null, Task.Priority.LOW, PageRequest.of(0, 10, RECENT_FIRST)).getContent())
+                .containsExactly(2L, 3L);
+        assertThat(index.query(Task.Status.OPEN, Task.Priority.HIGH, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"))).getContent())
+                .containsExactly(5L);
+        assertThat(index.query(Task.Status.DONE, Task.Priority.HIGH, PageRequest.of(0, 10)).getTotalElements())
+                .isZero();
+    }
+
+    @Test
+    void shouldPageByUpdatedAtAndById() {
+        Page<Long> second = index.query(null, null, PageRequest.of(1, 2, RECENT_FIRST));
+        assertThat(second.getContent()).containsExactly(3L, 4L);
+        assertThat(second.getTotalElements()).isEqualTo(5);
+
+        assertThat(index.query(null, null, PageRequest.of(0, 2, Sort.by("updatedAt"))).getContent())
+                .containsExactly(5L, 4L);
+        assertThat(index.query(Task.Status.OPEN, null, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"))).getContent())
+                .containsExactly(5L, 3L);
+        assertThat(index.query(null, null, PageRequest.of(3, 2)).getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldMergeOrderingsOfSelectedStatusAndPriorityPairs() {
+        // 1000 tasks, 10 of them DONE, spread over all three priorities
+        index.rebuild(LongStream.rangeClosed(1, 1000).mapToObj(id -> snapshot(id,
+                id % 100 == 0 ? Task.Status.DONE : Task.Status.OPEN, Task.Priority.values()[(int) (id % 3)], (int) (1000 - id))));
+
+        assertThat(index.query(Task.Status.DONE, null, PageRequest.of(4, 2, RECENT_FIRST)).getContent())
+                .containsExactly(900L, 1000L);
+        assertThat(index.query(Task.Status.DONE, null, PageRequest.of(0, 2, RECENT_FIRST)).getContent())
+                .containsExactly(100L, 200L);
+        assertThat(index.query(null, Task.Priority.LOW, PageRequest.of(0, 3, Sort.by("updatedAt"))).getContent())
+                .containsExactly(999L, 996L, 993L);
+    }
+
+    @Test
+    void shouldFollowUpdatesAndRemovals() {
+        index.index(snapshot(5L, Task.Status.DONE, Task.Priority.HIGH, 60));
+        index.remove(2L);
+
+        assertThat(index.query(null, null, PageRequest.of(0, 10, RECENT_FIRST)).getContent())
+                .containsExactly(5L, 1L, 3L, 4L);
+        assertThat(index.query(Task.Status.DONE, null, PageRequest.of(0, 10)).getContent()).containsExactly(5L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldComputeVersionOfFilter() {
+        assertThat(index.version(Task.Status.OPEN, null)).isEqualTo(new TaskVersion(3, BASE.plusSeconds(50)));
+        assertThat(index.version(null, Task.Priority.MEDIUM)).isEqualTo(TaskVersion.EMPTY);
+    }
+
+    @Test
+    void shouldSupportOnlyUpdatedAtAndIdSorts() {
+        assertThat(index.supports(PageRequest.of(0, 10, RECENT_FIRST))).isTrue();
+        assertThat(index.supports(PageRequest.of(0, 10))).isTrue();
+        assertThat(index.supports(PageRequest.of(0, 10, Sort.by("dueDate")))).isFalse();
+        assertThat(index.supports(PageRequest.of(0, 10, Sort.by("updatedAt", "id")))).isFalse();
+    }
+
+    private static TaskSnapshot snapshot(Long id, Task.Status status, Task.Priority priority, int secondsAfterBase) {
+        LocalDateTime updatedAt = BASE.plusSeconds(secondsAfterBase);
+        return new TaskSnapshot(id, "Task " + id, null, status, priority, null, updatedAt, updatedAt);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.TaskFixtures;
+import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the LIKE query with the inverted index for the {@code q} parameter.
+ * Run with {@code ./mvnw test -Dtest=TaskSearchBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]}.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskSearchBenchmarkTest {
+
+    private static final List<String> QUERIES = List.of("invoice", "sec", "release notes", "customer payment");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskSearchIndex searchIndex;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void compareLikeQueryWithIndex() {
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+        TaskFixtures.seed(jdbcTemplate, rows, new Random(42));
+        TaskFixtures.refresh(context);
+        assertThat(searchIndex.size()).isGreaterThanOrEqualTo(rows);
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt"));
+        for (String q : QUERIES) {
+            long like = median(() -> taskRepository.findTasks(null, null, q, pageable).getTotalElements());
+            long indexed = median(() -> taskService.getTasks(null, null, q, pageable).getTotalElements());
+            System.out.printf("rows=%d q=%-18s like=%6d ms  index=%6d ms%n", rows, '"' + q + '"', like, indexed);
+        }
+    }
+
+    private long median(Supplier<Long> query) {
+        query.get();
+        long[] samples = new long[5];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
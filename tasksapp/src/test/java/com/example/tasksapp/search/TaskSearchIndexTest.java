@@ -0,0 +1,166 @@
+package com.example.tasksapp.search;
+
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.example.tasksapp.repository.TaskChangeLog;
+import com.example.tasksapp.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(mock(TaskRepository.class), mock(TaskChangeLog.class), horizon());
+        ReflectionTestUtils.setField(index, "enabled", true);
+        index.rebuild(Stream.of(
+                snapshot(1L, "Important meeting", "Discuss roadmap", Task.Status.OPEN, Task.Priority.HIGH),
+                snapshot(2L, "Shopping list", "Milk, important groceries", Task.Status.DONE, Task.Priority.LOW),
+                snapshot(3L, "Important deadline", null, Task.Status.DONE, Task.Priority.HIGH)
+        ));
+    }
+
+    @Test
+    void shouldMatchTokensByPrefixCaseInsensitively() {
+        assertThat(index.search("IMPORT", null, null)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("shop", null, null)).containsExactly(2L);
+        assertThat(index.search("port", null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldRequireEveryTerm() {
+        assertThat(index.search("important dead", null, null)).containsExactly(3L);
+        assertThat(index.search("important unknown", null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        assertThat(index.search("important", null, null)).last().isEqualTo(2L);
+    }
+
+    @Test
+    void shouldApplyStatusAndPriorityFilters() {
+        assertThat(index.search("important", Task.Status.DONE, null)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.search("important", Task.Status.DONE, Task.Priority.HIGH)).containsExactly(3L);
+    }
+
+    @Test
+    void shouldReplaceTokensOnReindexAndDropThemOnRemove() {
+        index.index(snapshot(1L, "Weekly sync", null, Task.Status.OPEN, Task.Priority.HIGH));
+
+        assertThat(index.search("meeting", null, null)).isEmpty();
+        assertThat(index.search("weekly", null, null)).containsExactly(1L);
+
+        index.remove(1L);
+
+        assertThat(index.search("weekly", null, null)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReloadSnapshotAndReplayLaterChanges(@TempDir Path dir) {
+        String file = dir.resolve("search-index.bin").toString();
+        TaskChangeLog changeLog = mock(TaskChangeLog.class);
+        when(changeLog.latestChangeSeq()).thenReturn(10L, 12L);
+        when(changeLog.findChangedSince(anyLong(), anyInt())).thenReturn(List.of());
+        when(changeLog.findChangedSince(10L, 1000)).thenReturn(List.of(new TaskChangeLog.ChangedTask(11L,
+                snapshot(4L, "Important release", null, Task.Status.OPEN, null))));
+        when(changeLog.findDeletedSince(anyLong(), anyInt())).thenReturn(List.of());
+        when(changeLog.findDeletedSince(10L, 1000)).thenReturn(List.of(
+                new TaskChangeLog.Tombstone(12L, 2L, LocalDateTime.now())));
+
+        ReflectionTestUtils.setField(index, "changeLog", changeLog);
+        ReflectionTestUtils.setField(index, "snapshotFile", file);
+        index.saveSnapshot();
+
+        TaskRepository repository = mock(TaskRepository.class);
+        when(repository.count()).thenReturn(3L);
+        TaskSearchIndex reloaded = new TaskSearchIndex(repository, changeLog, horizon());
+        ReflectionTestUtils.setField(reloaded, "enabled", true);
+        ReflectionTestUtils.setField(reloaded, "snapshotFile", file);
+        reloaded.rebuild();
+
+        verify(repository, never()).streamSnapshots();
+        assertThat(reloaded.isReady()).isTrue();
+        assertThat(reloaded.search("important", null, null)).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(reloaded.search("important", Task.Status.DONE, Task.Priority.HIGH)).containsExactly(3L);
+        assertThat(reloaded.search("roadmap", null, null)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRebuildWhenSnapshotIsAheadOfDatabase(@TempDir Path dir) {
+        String file = dir.resolve("search-index.bin").toString();
+        TaskChangeLog changeLog = mock(TaskChangeLog.class);
+        when(changeLog.latestChangeSeq()).thenReturn(10L, 5L);
+        ReflectionTestUtils.setField(index, "changeLog", changeLog);
+        ReflectionTestUtils.setField(index, "snapshotFile", file);
+        index.saveSnapshot();
+
+        TaskRepository repository = mock(TaskRepository.class);
+        when(repository.streamSnapshots()).thenReturn(Stream.of(
+                snapshot(7L, "Restored task", null, Task.Status.OPEN, Task.Priority.LOW)));
+        TaskSearchIndex reloaded = new TaskSearchIndex(repository, changeLog, horizon());
+        ReflectionTestUtils.setField(reloaded, "enabled", true);
+        ReflectionTestUtils.setField(reloaded, "snapshotFile", file);
+        reloaded.rebuild();
+
+        assertThat(reloaded.size()).isEqualTo(1);
+        assertThat(reloaded.search("important", null, null)).isEmpty();
+    }
+
+    @Test
+    void shouldReplayFromBelowAWriteStillOpenAtShutdown(@TempDir Path dir) {
+        String file = dir.resolve("search-index.bin").toString();
+        TaskChangeLog changeLog = mock(TaskChangeLog.class);
+        when(changeLog.latestChangeSeq()).thenReturn(10L);
+        when(changeLog.findChangedSince(anyLong(), anyInt())).thenReturn(List.of());
+        // Numbered 9 but committed after the snapshot's latest change, 10
+        when(changeLog.findChangedSince(8L, 1000)).thenReturn(List.of(new TaskChangeLog.ChangedTask(9L,
+                snapshot(1L, "Weekly sync", null, Task.Status.OPEN, Task.Priority.HIGH))));
+        when(changeLog.findDeletedSince(anyLong(), anyInt())).thenReturn(List.of());
+        TaskChangeHorizon changeHorizon = horizon();
+        changeHorizon.open(8);
+
+        ReflectionTestUtils.setField(index, "changeLog", changeLog);
+        ReflectionTestUtils.setField(index, "changeHorizon", changeHorizon);
+        ReflectionTestUtils.setField(index, "snapshotFile", file);
+        index.saveSnapshot();
+
+        TaskRepository repository = mock(TaskRepository.class);
+        when(repository.count()).thenReturn(3L);
+        TaskSearchIndex reloaded = new TaskSearchIndex(repository, changeLog, horizon());
+        ReflectionTestUtils.setField(reloaded, "enabled", true);
+        ReflectionTestUtils.setField(reloaded, "snapshotFile", file);
+        reloaded.rebuild();
+
+        assertThat(reloaded.search("weekly", null, null)).containsExactly(1L);
+        assertThat(reloaded.search("meeting", null, null)).isEmpty();
+    }
+
+    private static TaskChangeHorizon horizon() {
+        return new TaskChangeHorizon(mock(TaskChangeLog.class));
+    }
+
+    private TaskSnapshot snapshot(Long id, String title, String description, Task.Status status, Task.Priority priority) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskSnapshot(id, title, description, status, priority, null, now, now);
+    }
+}
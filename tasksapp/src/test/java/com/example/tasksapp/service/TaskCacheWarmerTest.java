@@ -0,0 +1,125 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskResponse;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskCacheWarmerTest {
+
+    private TaskRepository taskRepository;
+    private CaffeineCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        cacheManager = new CaffeineCacheManager(CacheConfig.TASK_BY_ID);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100));
+        when(taskRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::response).toList();
+        });
+    }
+
+    @Test
+    void shouldLoadSavedKeysFirstThenRecentlyUpdatedActiveTasks(@TempDir Path dir) throws Exception {
+        Path keyFile = dir.resolve("keys.txt");
+        Files.write(keyFile, List.of("7", "3"));
+        when(taskRepository.findActiveIdsByRecentUpdate(PageRequest.of(0, 3))).thenReturn(List.of(3L, 5L, 9L));
+
+        int loaded = warmer(3, Duration.ofSeconds(5), keyFile).warmUp();
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        assertThat(loaded).isEqualTo(3);
+        assertThat(cache.get(7L, TaskResponse.class)).isNotNull();
+        assertThat(cache.get(3L, TaskResponse.class)).isNotNull();
+        assertThat(cache.get(5L, TaskResponse.class)).isNotNull();
+        assertThat(cache.get(9L)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheATaskDeletedWhileItsBatchLoads() {
+        TaskCacheWarmer warmer = warmer(2, Duration.ofSeconds(5), null);
+        when(taskRepository.findActiveIdsByRecentUpdate(any())).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            // Commits after the batch read the row
+            warmer.onTaskChanged(TaskChangedEvent.deleted(snapshot(2L)));
+            return ids.stream().map(this::response).toList();
+        });
+
+        int loaded = warmer.warmUp();
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        assertThat(loaded).isEqualTo(1);
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    void shouldSaveCachedKeysOnShutdown(@TempDir Path dir) throws Exception {
+        Path keyFile = dir.resolve("keys.txt");
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_BY_ID);
+        cache.put(4L, response(4L));
+        cache.put(8L, response(8L));
+
+        warmer(100, Duration.ofSeconds(5), keyFile).saveKeys();
+
+        assertThat(Files.readAllLines(keyFile)).containsExactlyInAnyOrder("4", "8");
+    }
+
+    @Test
+    void shouldStopWaitingAtTheDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.findActiveIdsByRecentUpdate(any())).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findResponsesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        int loaded = warmer(10, Duration.ofMillis(100), null).warmUp();
+        release.countDown();
+
+        assertThat(loaded).isZero();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    private TaskCacheWarmer warmer(int size, Duration deadline, Path keyFile) {
+        return new TaskCacheWarmer(taskRepository, cacheManager, true, size, 2, 2, deadline,
+                keyFile != null ? keyFile.toString() : "");
+    }
+
+    private TaskSnapshot snapshot(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskSnapshot(id, "Task " + id, null, Task.Status.OPEN, Task.Priority.LOW, null, now, now);
+    }
+
+    private TaskResponse response(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskResponse(id, "Task " + id, null, Task.Status.OPEN, Task.Priority.LOW, null, now, now);
+    }
+}
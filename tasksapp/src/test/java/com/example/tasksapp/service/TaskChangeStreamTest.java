@@ -0,0 +1,142 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskDueEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.mapper.TaskMapper;
+import com.example.tasksapp.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskChangeStreamTest {
+
+    private final TaskChangeStream stream = new TaskChangeStream(
+            Mappers.getMapper(TaskMapper.class), new ObjectMapper().findAndRegisterModules(),
+            4, 10, Duration.ofSeconds(30));
+
+    @Test
+    void shouldOnlyDeliverChangesMatchingTheFilterBeforeOrAfter() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        stream.register(emitter, TaskListQuery.of(Task.Status.DONE, null, null, null));
+
+        stream.onTaskChanged(TaskChangedEvent.created(snapshot(1L, Task.Status.OPEN)));
+        stream.onTaskChanged(TaskChangedEvent.updated(snapshot(1L, Task.Status.OPEN), snapshot(1L, Task.Status.DONE)));
+        stream.onTaskChanged(TaskChangedEvent.updated(snapshot(1L, Task.Status.DONE), snapshot(1L, Task.Status.OPEN)));
+
+        List<String> frames = emitter.awaitFrames(3);
+        assertThat(frames.get(0)).contains(":connected");
+        assertThat(frames.get(1)).contains("event:task").contains("\"type\":\"UPDATED\"").contains("\"status\":\"DONE\"");
+        assertThat(frames.get(2)).contains("event:task").contains("\"status\":\"OPEN\"");
+    }
+
+    @Test
+    void shouldDeliverDueEventsToMatchingFilters() throws Exception {
+        CapturingEmitter high = new CapturingEmitter(null);
+        CapturingEmitter low = new CapturingEmitter(null);
+        stream.register(high, TaskListQuery.of(null, Task.Priority.HIGH, null, null));
+        stream.register(low, TaskListQuery.of(null, Task.Priority.LOW, null, null));
+
+        stream.onTaskDue(new TaskDueEvent(TaskDueEvent.Type.OVERDUE, 1L, Task.Status.OPEN, Task.Priority.HIGH,
+                LocalDate.of(2026, 3, 10)));
+
+        assertThat(high.awaitFrames(2).get(1)).contains("event:due").contains("\"type\":\"OVERDUE\"");
+        Thread.sleep(100);
+        assertThat(low.frames).hasSize(1);
+    }
+
+    @Test
+    void shouldReplaceOverflowedBufferWithSingleResync() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CapturingEmitter emitter = new CapturingEmitter(release);
+        stream.register(emitter, TaskListQuery.of(null, null, null, null));
+        emitter.awaitBlocked();
+
+        // The sender is stuck on the first frame; buffer size is 4
+        for (long id = 1; id <= 5; id++) {
+            stream.onTaskChanged(TaskChangedEvent.created(snapshot(id, Task.Status.OPEN)));
+        }
+        release.countDown();
+
+        List<String> frames = emitter.awaitFrames(2);
+        assertThat(frames.get(1)).contains("event:resync");
+        Thread.sleep(100);
+        assertThat(emitter.frames).hasSize(2);
+
+        stream.onTaskChanged(TaskChangedEvent.created(snapshot(6L, Task.Status.OPEN)));
+        assertThat(emitter.awaitFrames(3).get(2)).contains("\"id\":6");
+    }
+
+    @Test
+    void shouldDropSubscriberWhoseConnectionFailed() throws Exception {
+        CapturingEmitter emitter = new CapturingEmitter(null);
+        emitter.fail = true;
+        stream.register(emitter, TaskListQuery.of(null, null, null, null));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (stream.subscriberCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    private static TaskSnapshot snapshot(Long id, Task.Status status) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        return new TaskSnapshot(id, "Task " + id, null, status, Task.Priority.MEDIUM, null, now, now);
+    }
+
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile boolean fail;
+
+        private CapturingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            if (release != null && blocked.getCount() > 0) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<String> awaitFrames(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (frames.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(frames).hasSizeGreaterThanOrEqualTo(count);
+            return frames;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskDueEvent;
+import com.example.tasksapp.event.TaskDueListener;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskDueDate;
+import com.example.tasksapp.repository.TaskDueTicks;
+import com.example.tasksapp.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskDueSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 11);
+
+    private final List<TaskDueEvent> events = new ArrayList<>();
+    private TaskRepository taskRepository;
+    private TaskDueTicks dueTicks;
+    private TaskDueScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        dueTicks = mock(TaskDueTicks.class);
+        when(dueTicks.lastTickedDay()).thenReturn(Optional.empty());
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("failing", (TaskDueListener) event -> {
+            throw new IllegalStateException("listener failure");
+        });
+        beans.addBean("capturing", (TaskDueListener) events::add);
+        scheduler = new TaskDueScheduler(taskRepository, dueTicks, beans.getBeanProvider(TaskDueListener.class),
+                true, 1, Duration.ofMinutes(1));
+        setToday(TODAY);
+    }
+
+    @Test
+    void shouldAnnounceDueSoonThenOverdue() {
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(1L, Task.Status.OPEN, TODAY.plusDays(3))));
+
+        assertThat(firedOn(TODAY)).isEmpty();
+        assertThat(firedOn(TODAY.plusDays(2))).containsExactly(TaskDueEvent.Type.DUE_SOON);
+        assertThat(firedOn(TODAY.plusDays(3))).isEmpty();
+        assertThat(firedOn(TODAY.plusDays(4))).containsExactly(TaskDueEvent.Type.OVERDUE);
+        assertThat(scheduler.scheduledCount()).isZero();
+    }
+
+    @Test
+    void shouldFollowDueDateAndStatusChanges() {
+        TaskSnapshot created = snapshot(1L, Task.Status.OPEN, TODAY.plusDays(1));
+        TaskSnapshot postponed = snapshot(1L, Task.Status.OPEN, TODAY.plusDays(5));
+        TaskSnapshot done = snapshot(1L, Task.Status.DONE, TODAY.plusDays(5));
+        scheduler.onTaskChanged(TaskChangedEvent.created(created));
+        scheduler.onTaskChanged(TaskChangedEvent.updated(created, postponed));
+        assertThat(firedOn(TODAY)).isEmpty();
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(postponed, done));
+        assertThat(scheduler.scheduledCount()).isZero();
+        assertThat(firedOn(TODAY.plusDays(6))).isEmpty();
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(done, postponed));
+        assertThat(firedOn(TODAY.plusDays(6))).containsExactly(TaskDueEvent.Type.OVERDUE);
+    }
+
+    @Test
+    void shouldNotRepeatAnEventWhenOtherFieldsChange() {
+        TaskSnapshot open = snapshot(1L, Task.Status.OPEN, TODAY);
+        TaskSnapshot started = snapshot(1L, Task.Status.IN_PROGRESS, TODAY);
+        scheduler.onTaskChanged(TaskChangedEvent.created(open));
+        assertThat(firedOn(TODAY)).containsExactly(TaskDueEvent.Type.DUE_SOON);
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(open, started));
+        assertThat(firedOn(TODAY)).isEmpty();
+        scheduler.fireDue();
+        setToday(TODAY.plusDays(1));
+        scheduler.fireDue();
+        assertThat(events).extracting(TaskDueEvent::status).containsExactly(Task.Status.IN_PROGRESS);
+    }
+
+    @Test
+    void shouldLoadWithOneRangeQueryAndSkipEventsThatWereMissed() {
+        when(taskRepository.streamDueFrom(TODAY.minusDays(1))).thenReturn(Stream.of(
+                new TaskDueDate(1L, Task.Status.OPEN, Task.Priority.HIGH, TODAY.minusDays(1)),
+                new TaskDueDate(2L, Task.Status.IN_PROGRESS, null, TODAY),
+                new TaskDueDate(3L, Task.Status.OPEN, null, TODAY.plusDays(10))));
+
+        scheduler.load();
+
+        verify(taskRepository).streamDueFrom(TODAY.minusDays(1));
+        assertThat(scheduler.scheduledCount()).isEqualTo(3);
+        assertThat(firedOn(TODAY)).containsExactly(TaskDueEvent.Type.DUE_SOON, TaskDueEvent.Type.OVERDUE);
+        assertThat(events).extracting(TaskDueEvent::id).containsExactly(2L, 1L);
+        // Not ticked for three weeks: task 3 is overdue, so it is not announced as due soon first
+        assertThat(firedOn(TODAY.plusDays(21))).containsExactly(TaskDueEvent.Type.OVERDUE, TaskDueEvent.Type.OVERDUE);
+        assertThat(events).extracting(TaskDueEvent::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void shouldResumeFromTheLastTickedDayAndRecordEachDayTicked() {
+        when(dueTicks.lastTickedDay()).thenReturn(Optional.of(TODAY.minusDays(5)));
+        // Fell due while the app was down
+        when(taskRepository.streamDueFrom(TODAY.minusDays(5))).thenReturn(Stream.of(
+                new TaskDueDate(1L, Task.Status.OPEN, Task.Priority.HIGH, TODAY.minusDays(3))));
+
+        scheduler.load();
+
+        assertThat(firedOn(TODAY)).containsExactly(TaskDueEvent.Type.OVERDUE);
+        scheduler.fireDue();
+        verify(dueTicks, times(1)).recordTick(TODAY);
+        firedOn(TODAY.plusDays(1));
+        verify(dueTicks).recordTick(TODAY.plusDays(1));
+    }
+
+    @Test
+    void shouldNotRecordTicksBeforeLoading() {
+        scheduler.fireDue();
+
+        verify(dueTicks, never()).recordTick(any());
+    }
+
+    private List<TaskDueEvent.Type> firedOn(LocalDate day) {
+        setToday(day);
+        events.clear();
+        scheduler.fireDue();
+        return events.stream().map(TaskDueEvent::type).toList();
+    }
+
+    private void setToday(LocalDate today) {
+        ReflectionTestUtils.setField(scheduler, "clock",
+                Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    }
+
+    private static TaskSnapshot snapshot(Long id, Task.Status status, LocalDate dueDate) {
+        LocalDateTime now = TODAY.atTime(9, 0);
+        return new TaskSnapshot(id, "Task " + id, null, status, Task.Priority.MEDIUM, dueDate, now, now);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.dto.TaskFacetsResponse;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.example.tasksapp.repository.TaskChangeHorizon;
+import com.example.tasksapp.repository.TaskChangeLog;
+import com.example.tasksapp.repository.TaskDueDate;
+import com.example.tasksapp.repository.TaskFacetCount;
+import com.example.tasksapp.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskFacetCounterTest {
+
+    // A Wednesday; its week ends on Sunday the 15th
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 11);
+
+    private TaskRepository taskRepository;
+    private TaskChangeHorizon changeHorizon;
+    private TaskFacetCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        changeHorizon = new TaskChangeHorizon(mock(TaskChangeLog.class));
+        counter = new TaskFacetCounter(taskRepository, changeHorizon, mock(PlatformTransactionManager.class), Duration.ZERO);
+        setToday(TODAY.minusDays(2));
+        when(taskRepository.countFacets()).thenReturn(List.of(
+                new TaskFacetCount(Task.Status.OPEN, Task.Priority.HIGH, TODAY.minusDays(1), 2L),
+                new TaskFacetCount(Task.Status.OPEN, null, TODAY.plusDays(4), 1L),
+                new TaskFacetCount(Task.Status.IN_PROGRESS, Task.Priority.LOW, null, 3L),
+                new TaskFacetCount(Task.Status.DONE, Task.Priority.HIGH, null, 4L)));
+    }
+
+    @Test
+    void shouldCountByStatusPriorityAndDueDate() {
+        setToday(TODAY);
+        assertThat(counter.reconcile()).isTrue();
+
+        TaskFacetsResponse facets = counter.facets();
+
+        assertThat(facets.getTotal()).isEqualTo(10);
+        assertThat(facets.getByStatus()).containsEntry(Task.Status.OPEN, 3L)
+                .containsEntry(Task.Status.IN_PROGRESS, 3L).containsEntry(Task.Status.DONE, 4L);
+        assertThat(facets.getByPriority()).containsEntry("HIGH", 6L).containsEntry("LOW", 3L)
+                .containsEntry("MEDIUM", 0L).containsEntry(TaskFacetsResponse.NO_PRIORITY, 1L);
+        assertThat(facets.getByStatusAndPriority().get(Task.Status.OPEN))
+                .containsEntry("HIGH", 2L).containsEntry(TaskFacetsResponse.NO_PRIORITY, 1L);
+        assertThat(facets.getOverdue()).isEqualTo(2);
+        assertThat(facets.getDueThisWeek()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFollowTaskEventsWithoutTheDatabase() {
+        setToday(TODAY);
+        counter.reconcile();
+        TaskSnapshot created = snapshot(1L, Task.Status.OPEN, Task.Priority.MEDIUM, TODAY);
+        TaskSnapshot done = snapshot(1L, Task.Status.DONE, Task.Priority.MEDIUM, TODAY);
+
+        counter.onTaskChanged(TaskChangedEvent.created(created));
+        assertThat(counter.facets().getDueThisWeek()).isEqualTo(2);
+
+        counter.onTaskChanged(TaskChangedEvent.updated(created, done));
+        TaskFacetsResponse facets = counter.facets();
+        assertThat(facets.getByStatus()).containsEntry(Task.Status.OPEN, 3L).containsEntry(Task.Status.DONE, 5L);
+        assertThat(facets.getDueThisWeek()).isEqualTo(1);
+
+        counter.onTaskChanged(TaskChangedEvent.deleted(done));
+        assertThat(counter.facets().getTotal()).isEqualTo(10);
+        verify(taskRepository).countFacets();
+    }
+
+    @Test
+    void shouldMoveDueDatesIntoOverdueWhenTheDayChanges() {
+        counter.reconcile();
+        TaskFacetsResponse earlier = counter.facets();
+        assertThat(earlier.getOverdue()).isZero();
+        assertThat(earlier.getDueThisWeek()).isEqualTo(3);
+
+        setToday(TODAY.plusDays(5));
+        TaskFacetsResponse later = counter.facets();
+        assertThat(later.getToday()).isEqualTo(TODAY.plusDays(5));
+        assertThat(later.getOverdue()).isEqualTo(3);
+        assertThat(later.getDueThisWeek()).isZero();
+    }
+
+    @Test
+    void shouldCountInTheDatabaseUntilLoaded() {
+        assertThat(counter.isReady()).isFalse();
+        assertThat(counter.facets().getTotal()).isEqualTo(10);
+
+        counter.onTaskChanged(TaskChangedEvent.created(snapshot(1L, Task.Status.OPEN, null, null)));
+        assertThat(counter.isReady()).isFalse();
+    }
+
+    @Test
+    void shouldReplayTheEventsARecountMissed() {
+        counter.reconcile();
+        TaskSnapshot counted = snapshot(1L, Task.Status.OPEN, null, null);
+        TaskSnapshot missed = snapshot(2L, Task.Status.OPEN, null, null);
+        when(taskRepository.countFacets()).thenAnswer(invocation -> {
+            counter.onTaskChanged(TaskChangedEvent.created(counted));
+            counter.onTaskChanged(TaskChangedEvent.created(missed));
+            return List.of(new TaskFacetCount(Task.Status.OPEN, null, null, 11L));
+        });
+        when(taskRepository.findDueDatesByIdIn(any())).thenReturn(List.of(new TaskDueDate(1L, Task.Status.OPEN, null, null)));
+
+        assertThat(counter.reconcile()).isTrue();
+        assertThat(counter.facets().getTotal()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldReplayOnlyTheChangesOfATaskAfterTheCountedOne() {
+        counter.reconcile();
+        TaskSnapshot open = snapshot(1L, Task.Status.OPEN, null, null);
+        TaskSnapshot started = snapshot(1L, Task.Status.IN_PROGRESS, null, null);
+        TaskSnapshot done = snapshot(1L, Task.Status.DONE, null, null);
+        when(taskRepository.countFacets()).thenAnswer(invocation -> {
+            counter.onTaskChanged(TaskChangedEvent.updated(open, started));
+            counter.onTaskChanged(TaskChangedEvent.updated(started, done));
+            return List.of(new TaskFacetCount(Task.Status.IN_PROGRESS, null, null, 1L));
+        });
+        when(taskRepository.findDueDatesByIdIn(any())).thenReturn(List.of(new TaskDueDate(1L, Task.Status.IN_PROGRESS, null, null)));
+
+        assertThat(counter.reconcile()).isTrue();
+        assertThat(counter.facets().getByStatus()).containsEntry(Task.Status.IN_PROGRESS, 0L)
+                .containsEntry(Task.Status.DONE, 1L).containsEntry(Task.Status.OPEN, 0L);
+    }
+
+    @Test
+    void shouldWaitForAWriterInTheRecountToApplyItsEvent() {
+        counter.reconcile();
+        // Committed, so counted by the recount, but its listeners have not run yet
+        long writer = changeHorizon.open(0);
+        when(taskRepository.countFacets()).thenReturn(List.of(
+                new TaskFacetCount(Task.Status.OPEN, null, null, 11L)));
+        when(taskRepository.findDueDatesByIdIn(any())).thenReturn(List.of(new TaskDueDate(1L, Task.Status.OPEN, null, null)));
+        CompletableFuture.runAsync(() -> {
+            counter.onTaskChanged(TaskChangedEvent.created(snapshot(1L, Task.Status.OPEN, null, null)));
+            changeHorizon.close(writer);
+        }, CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        assertThat(counter.reconcile()).isTrue();
+        assertThat(counter.facets().getTotal()).isEqualTo(11);
+    }
+
+    private void setToday(LocalDate today) {
+        ReflectionTestUtils.setField(counter, "clock",
+                Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    }
+
+    private static TaskSnapshot snapshot(Long id, Task.Status status, Task.Priority priority, LocalDate dueDate) {
+        LocalDateTime now = TODAY.atTime(9, 0);
+        return new TaskSnapshot(id, "Task " + id, null, status, priority, dueDate, now, now);
+    }
+}
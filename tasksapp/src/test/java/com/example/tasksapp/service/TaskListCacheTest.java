@@ -0,0 +1,102 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskListCacheTest {
+
+    private TaskListCache listCache;
+
+    private final TaskListQuery openTasks = TaskListQuery.of(Task.Status.OPEN, null, null, PageRequest.of(0, 10));
+    private final TaskListQuery doneTasks = TaskListQuery.of(Task.Status.DONE, null, null, PageRequest.of(0, 10));
+    private final TaskListQuery meetingSearch = TaskListQuery.of(null, null, " Meeting ", PageRequest.of(0, 10));
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.TASK_LISTS, Caffeine.newBuilder().build());
+        listCache = new TaskListCache(cacheManager);
+
+        long generation = listCache.generation();
+        listCache.put(openTasks, List.of(1L), 1, generation);
+        listCache.put(doneTasks, List.of(2L), 1, generation);
+        listCache.put(meetingSearch, List.of(3L), 1, generation);
+    }
+
+    @Test
+    void shouldOnlyEvictEntriesMatchingTheChangedTask() {
+        listCache.onTaskChanged(TaskChangedEvent.created(snapshot(4L, "Buy milk", Task.Status.OPEN)));
+
+        assertThat(listCache.get(openTasks)).isNull();
+        assertThat(listCache.get(doneTasks)).isNotNull();
+        assertThat(listCache.get(meetingSearch)).isNotNull();
+    }
+
+    @Test
+    void shouldEvictEntriesMatchingEitherOldOrNewState() {
+        listCache.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(1L, "Weekly meeting", Task.Status.OPEN),
+                snapshot(1L, "Weekly meeting", Task.Status.DONE)));
+
+        assertThat(listCache.get(openTasks)).isNull();
+        assertThat(listCache.get(doneTasks)).isNull();
+        assertThat(listCache.get(meetingSearch)).isNull();
+    }
+
+    @Test
+    void shouldNotCacheResultComputedBeforeAnInvalidation() {
+        TaskListQuery query = TaskListQuery.of(null, Task.Priority.HIGH, null, PageRequest.of(0, 10));
+        long generation = listCache.generation();
+
+        listCache.onTaskChanged(TaskChangedEvent.deleted(snapshot(2L, "Release", Task.Status.DONE)));
+        listCache.put(query, List.of(5L), 1, generation);
+
+        assertThat(listCache.get(query)).isNull();
+    }
+
+    @Test
+    void shouldNeverKeepAResultRacingAnInvalidation() throws Exception {
+        TaskSnapshot task = snapshot(1L, "Weekly meeting", Task.Status.OPEN);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2_000; i++) {
+                long generation = listCache.generation();
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> put = executor.submit(() -> {
+                    start.await();
+                    listCache.put(openTasks, List.of(1L), 1, generation);
+                    return null;
+                });
+                Future<?> change = executor.submit(() -> {
+                    start.await();
+                    listCache.onTaskChanged(TaskChangedEvent.updated(task, task));
+                    return null;
+                });
+                put.get();
+                change.get();
+
+                assertThat(listCache.get(openTasks)).isNull();
+            }
+        }
+    }
+
+    private TaskSnapshot snapshot(Long id, String title, Task.Status status) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskSnapshot(id, title, null, status, Task.Priority.MEDIUM, null, now, now);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskMissCacheTest {
+
+    private TaskMissCache missCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.TASK_MISSES, Caffeine.newBuilder().build());
+        missCache = new TaskMissCache(cacheManager);
+    }
+
+    @Test
+    void shouldTrackDeletionsAndCreations() {
+        missCache.onTaskChanged(TaskChangedEvent.deleted(snapshot(1L)));
+        assertThat(missCache.contains(1L)).isTrue();
+
+        missCache.onTaskChanged(TaskChangedEvent.created(snapshot(1L)));
+        assertThat(missCache.contains(1L)).isFalse();
+    }
+
+    @Test
+    void shouldDropAMissLookedUpBeforeACreation() {
+        long generation = missCache.generation();
+        missCache.onTaskChanged(TaskChangedEvent.created(snapshot(1L)));
+
+        missCache.put(1L, generation);
+
+        assertThat(missCache.contains(1L)).isFalse();
+    }
+
+    @Test
+    void shouldNeverKeepAMissRacingACreation() throws Exception {
+        TaskSnapshot task = snapshot(1L);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            for (int i = 0; i < 2_000; i++) {
+                long generation = missCache.generation();
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> put = executor.submit(() -> {
+                    start.await();
+                    missCache.put(1L, generation);
+                    return null;
+                });
+                Future<?> creation = executor.submit(() -> {
+                    start.await();
+                    missCache.onTaskChanged(TaskChangedEvent.created(task));
+                    return null;
+                });
+                put.get();
+                creation.get();
+
+                assertThat(missCache.contains(1L)).isFalse();
+            }
+        }
+    }
+
+    private TaskSnapshot snapshot(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskSnapshot(id, "Task " + id, null, Task.Status.OPEN, Task.Priority.MEDIUM, null, now, now);
+    }
+}
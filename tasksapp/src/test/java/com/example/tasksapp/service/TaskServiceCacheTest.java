@@ -3,6 +3,8 @@ package com.example.tasksapp.service;
 import com.example.tasksapp.dto.TaskCreateRequest;
 import com.example.tasksapp.dto.TaskResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
 import com.example.tasksapp.mapper.TaskMapper;
 import com.example.tasksapp.model.Task;
 import com.example.tasksapp.repository.TaskRepository;
@@ -13,6 +15,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
@@ -26,8 +29,8 @@ import static org.mockito.Mockito.*;
 
 @SpringBootTest
 @TestPropertySource(properties = {
-    "spring.cache.type=caffeine",
-    "spring.cache.caffeine.spec=maximumSize=100,expireAfterWrite=600s"
+    "tasks.cache.task-by-id.max-bytes=1MB",
+    "tasks.cache.task-by-id.expire-after-write=600s"
 })
 class TaskServiceCacheTest {
 
@@ -43,6 +46,9 @@ class TaskServiceCacheTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     private Task task;
     private TaskResponse taskResponse;
 
@@ -76,26 +82,23 @@ class TaskServiceCacheTest {
     @Test
     void getTaskById_shouldCacheResult() {
         // Given
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
 
         // When - First call should hit database
-        TaskResponse result1 = taskService.getTaskById(1L);
+        TaskResponse result1 = taskService.getTaskById(1L).orElseThrow();
 
         // Then
         assertThat(result1).isNotNull();
         assertThat(result1.getId()).isEqualTo(1L);
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskMapper, times(1)).toResponse(task);
+        verify(taskRepository, times(1)).findResponseById(1L);
 
         // When - Second call should use cache (no additional DB call)
-        TaskResponse result2 = taskService.getTaskById(1L);
+        TaskResponse result2 = taskService.getTaskById(1L).orElseThrow();
 
         // Then - Repository should still have been called only once
         assertThat(result2).isNotNull();
         assertThat(result2.getId()).isEqualTo(1L);
-        verify(taskRepository, times(1)).findById(1L); // Still only 1 call
-        verify(taskMapper, times(1)).toResponse(task); // Still only 1 call
+        verify(taskRepository, times(1)).findResponseById(1L); // Still only 1 call
 
         // Verify cache contains the entry
         CaffeineCache cache = (CaffeineCache) cacheManager.getCache("taskById");
@@ -106,18 +109,12 @@ class TaskServiceCacheTest {
     @Test
     void getTaskById_multipleTasks_shouldCacheIndependently() {
         // Given
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-
         TaskResponse taskResponse2 = new TaskResponse();
         taskResponse2.setId(2L);
         taskResponse2.setTitle("Task 2");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(task2));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
-        when(taskMapper.toResponse(task2)).thenReturn(taskResponse2);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
+        when(taskRepository.findResponseById(2L)).thenReturn(Optional.of(taskResponse2));
 
         // When - Fetch both tasks
         taskService.getTaskById(1L);
@@ -128,8 +125,8 @@ class TaskServiceCacheTest {
         taskService.getTaskById(2L);
 
         // Then - Each should be fetched from DB only once
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).findById(2L);
+        verify(taskRepository, times(1)).findResponseById(1L);
+        verify(taskRepository, times(1)).findResponseById(2L);
 
         // Verify both are cached
         CaffeineCache cache = (CaffeineCache) cacheManager.getCache("taskById");
@@ -140,8 +137,7 @@ class TaskServiceCacheTest {
     @Test
     void updateTask_shouldUpdateCache() {
         // Given - Task already in cache
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
         taskService.getTaskById(1L); // Load into cache
 
         // Setup for update
@@ -149,22 +145,19 @@ class TaskServiceCacheTest {
         updateRequest.setTitle("Updated Title");
         updateRequest.setStatus(Task.Status.IN_PROGRESS);
 
-        Task updatedTask = new Task();
-        updatedTask.setId(1L);
-        updatedTask.setTitle("Updated Title");
-        updatedTask.setStatus(Task.Status.IN_PROGRESS);
+        TaskSnapshot updatedTask = new TaskSnapshot(1L, "Updated Title", null, Task.Status.IN_PROGRESS,
+                null, null, null, null);
 
         TaskResponse updatedResponse = new TaskResponse();
         updatedResponse.setId(1L);
         updatedResponse.setTitle("Updated Title");
         updatedResponse.setStatus(Task.Status.IN_PROGRESS);
 
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.patchById(1L, updateRequest)).thenReturn(Optional.of(updatedTask));
         when(taskMapper.toResponse(updatedTask)).thenReturn(updatedResponse);
-        doNothing().when(taskMapper).updateEntityFromRequest(any(), any());
 
         // When - Update the task
-        TaskResponse result = taskService.updateTask(1L, updateRequest);
+        TaskResponse result = taskService.updateTask(1L, updateRequest).orElseThrow();
 
         // Then - Cache should be updated with new value
         assertThat(result.getTitle()).isEqualTo("Updated Title");
@@ -180,8 +173,7 @@ class TaskServiceCacheTest {
     @Test
     void deleteTask_shouldEvictFromCache() {
         // Given - Task in cache
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
         taskService.getTaskById(1L); // Load into cache
 
         // Verify it's cached
@@ -189,7 +181,7 @@ class TaskServiceCacheTest {
         assertThat(cache.get(1L)).isNotNull();
 
         // When - Delete the task
-        doNothing().when(taskRepository).delete(any(Task.class));
+        when(taskRepository.removeById(1L)).thenReturn(true);
         taskService.deleteTask(1L);
 
         // Then - Cache should no longer contain the entry
@@ -199,8 +191,7 @@ class TaskServiceCacheTest {
     @Test
     void createTask_shouldNotAffectExistingCache() {
         // Given - Task 1 already in cache
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
         taskService.getTaskById(1L); // Load into cache
 
         // Setup for creating new task
@@ -238,18 +229,12 @@ class TaskServiceCacheTest {
     @Test
     void deleteTask_shouldOnlyEvictSpecificTask() {
         // Given - Multiple tasks in cache
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-
         TaskResponse taskResponse2 = new TaskResponse();
         taskResponse2.setId(2L);
         taskResponse2.setTitle("Task 2");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.findById(2L)).thenReturn(Optional.of(task2));
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
-        when(taskMapper.toResponse(task2)).thenReturn(taskResponse2);
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
+        when(taskRepository.findResponseById(2L)).thenReturn(Optional.of(taskResponse2));
 
         taskService.getTaskById(1L);
         taskService.getTaskById(2L);
@@ -260,11 +245,32 @@ class TaskServiceCacheTest {
         assertThat(cache.get(2L)).isNotNull();
 
         // When - Delete task 1
-        doNothing().when(taskRepository).delete(any(Task.class));
+        when(taskRepository.removeById(1L)).thenReturn(true);
         taskService.deleteTask(1L);
 
         // Then - Only task 1 should be evicted, task 2 should remain
         assertThat(cache.get(1L)).isNull();
         assertThat(cache.get(2L)).isNotNull();
     }
+
+    @Test
+    void getTaskById_missingTask_shouldBeRememberedUntilCreated() {
+        when(taskRepository.findResponseById(3L)).thenReturn(Optional.empty());
+
+        assertThat(taskService.getTaskById(3L)).isEmpty();
+        assertThat(taskService.getTaskById(3L)).isEmpty();
+        assertThat(taskService.deleteTask(3L)).isFalse();
+
+        verify(taskRepository, times(1)).findResponseById(3L);
+        verify(taskRepository, never()).removeById(3L);
+        assertThat(cacheManager.getCache("taskById").get(3L)).isNull();
+
+        // A committed creation of that id drops the negative entry
+        eventPublisher.publishEvent(TaskChangedEvent.created(new TaskSnapshot(3L, "Created later", null,
+                Task.Status.OPEN, Task.Priority.LOW, null, LocalDateTime.now(), LocalDateTime.now())));
+        when(taskRepository.findResponseById(3L)).thenReturn(Optional.of(taskResponse));
+
+        assertThat(taskService.getTaskById(3L)).contains(taskResponse);
+        verify(taskRepository, times(2)).findResponseById(3L);
+    }
 }
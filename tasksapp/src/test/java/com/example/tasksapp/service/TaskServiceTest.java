@@ -1,28 +1,36 @@
 package com.example.tasksapp.service;
 
+import com.example.tasksapp.config.CacheConfig;
 import com.example.tasksapp.dto.TaskCreateRequest;
 import com.example.tasksapp.dto.TaskResponse;
 import com.example.tasksapp.dto.TaskUpdateRequest;
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskSnapshot;
 import com.example.tasksapp.mapper.TaskMapper;
 import com.example.tasksapp.model.Task;
 import com.example.tasksapp.repository.TaskRepository;
+import com.example.tasksapp.search.TaskBitmapIndex;
+import com.example.tasksapp.search.TaskSearchIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,40 +42,121 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private TaskBitmapIndex bitmapIndex;
+
+    @Mock
+    private TaskListCache listCache;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskVersionCache versionCache;
+
+    @Mock
+    private TaskMissCache missCache;
+
+    @Mock
+    private TaskFacetCounter facetCounter;
+
     @InjectMocks
     private TaskService taskService;
 
     @Test
     void shouldGetTasksWithPagination() {
         Pageable pageable = PageRequest.of(0, 10);
-        Task task = createTask(1L, "Test Task");
         TaskResponse taskResponse = createTaskResponse(1L, "Test Task");
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
 
-        when(taskRepository.findTasks(null, null, null, pageable)).thenReturn(taskPage);
-        when(taskMapper.toResponse(task)).thenReturn(taskResponse);
+        when(taskRepository.findTaskResponses(null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(taskResponse)));
 
         Page<TaskResponse> result = taskService.getTasks(null, null, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Task");
-        verify(taskRepository).findTasks(null, null, null, pageable);
+        verify(taskRepository).findTaskResponses(null, null, null, pageable);
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     void shouldGetTasksWithStatusFilter() {
         Pageable pageable = PageRequest.of(0, 10);
-        Task task = createTask(1L, "Test Task");
-        task.setStatus(Task.Status.OPEN);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
 
-        when(taskRepository.findTasks(Task.Status.OPEN, null, null, pageable)).thenReturn(taskPage);
-        when(taskMapper.toResponse(task)).thenReturn(createTaskResponse(1L, "Test Task"));
+        when(taskRepository.findTaskResponses(Task.Status.OPEN, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(createTaskResponse(1L, "Test Task"))));
 
         Page<TaskResponse> result = taskService.getTasks(Task.Status.OPEN, null, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        verify(taskRepository).findTasks(Task.Status.OPEN, null, null, pageable);
+        verify(taskRepository).findTaskResponses(Task.Status.OPEN, null, null, pageable);
+    }
+
+    @Test
+    void shouldServeCachedListWithoutQueryingTasks() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskResponse taskResponse = createTaskResponse(1L, "Cached Task");
+
+        when(listCache.get(TaskListQuery.of(null, null, null, pageable)))
+                .thenReturn(new TaskListCache.CachedPage(List.of(1L), 42));
+        when(taskRepository.findResponsesByIdIn(List.of(1L))).thenReturn(List.of(taskResponse));
+
+        Page<TaskResponse> result = taskService.getTasks(null, null, null, pageable);
+
+        assertThat(result.getContent()).containsExactly(taskResponse);
+        assertThat(result.getTotalElements()).isEqualTo(42);
+        verify(taskRepository, never()).findTaskResponses(any(), any(), any(), any());
+        verify(listCache, never()).put(any(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldResolveSearchThroughIndex() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TaskResponse firstResponse = createTaskResponse(2L, "Important deadline");
+
+        when(searchIndex.isReady()).thenReturn(true);
+        when(searchIndex.search("important", Task.Status.OPEN, null)).thenReturn(List.of(2L, 1L));
+        when(taskRepository.findResponsesByIdIn(List.of(2L))).thenReturn(List.of(firstResponse));
+
+        Page<TaskResponse> result = taskService.getTasks(Task.Status.OPEN, null, "important", pageable);
+
+        assertThat(result.getContent()).extracting(TaskResponse::getId).containsExactly(2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        verify(taskRepository, never()).findTaskResponses(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldServeUnfilteredListFromBitmapIndexAndCachedTasks() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskResponse cached = createTaskResponse(3L, "Cached");
+        TaskResponse loaded = createTaskResponse(1L, "Loaded");
+        Cache taskById = mock(Cache.class);
+
+        when(bitmapIndex.isReady()).thenReturn(true);
+        when(bitmapIndex.supports(pageable)).thenReturn(true);
+        when(bitmapIndex.query(Task.Status.OPEN, null, pageable)).thenReturn(new PageImpl<>(List.of(3L, 1L), pageable, 12));
+        when(cacheManager.getCache(CacheConfig.TASK_BY_ID)).thenReturn(taskById);
+        when(taskById.get(3L, TaskResponse.class)).thenReturn(cached);
+        when(taskRepository.findResponsesByIdIn(List.of(1L))).thenReturn(List.of(loaded));
+
+        Page<TaskResponse> result = taskService.getTasks(Task.Status.OPEN, null, null, pageable);
+
+        assertThat(result.getContent()).containsExactly(cached, loaded);
+        assertThat(result.getTotalElements()).isEqualTo(12);
+        verify(taskRepository, never()).findTaskResponses(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldGetTaskByIdFromProjection() {
+        TaskResponse taskResponse = createTaskResponse(1L, "Projected");
+        when(taskRepository.findResponseById(1L)).thenReturn(Optional.of(taskResponse));
+
+        assertThat(taskService.getTaskById(1L)).containsSame(taskResponse);
+        verify(taskRepository, never()).findById(anyLong());
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
@@ -93,6 +182,27 @@ class TaskServiceTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    void shouldServeTaskVersionFromCache() {
+        TaskVersion version = new TaskVersion(1, LocalDateTime.of(2026, 1, 1, 12, 0));
+        when(versionCache.get(1L)).thenReturn(version);
+
+        assertThat(taskService.getTaskVersion(1L)).contains(version);
+        verify(taskRepository, never()).findUpdatedAtById(anyLong());
+    }
+
+    @Test
+    void shouldLoadAndCacheTaskVersionOnMiss() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+        when(taskRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+
+        TaskVersion version = taskService.getTaskVersion(1L).orElseThrow();
+
+        assertThat(version).isEqualTo(new TaskVersion(1, updatedAt));
+        verify(versionCache).putIfAbsent(1L, version, 0L);
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
     @Test
     void shouldUpdateTask() {
         Long taskId = 1L;
@@ -100,60 +210,65 @@ class TaskServiceTest {
         request.setTitle("Updated Task");
         request.setStatus(Task.Status.IN_PROGRESS);
 
-        Task existingTask = createTask(taskId, "Original Task");
-        Task updatedTask = createTask(taskId, "Updated Task");
-        updatedTask.setStatus(Task.Status.IN_PROGRESS);
+        TaskSnapshot updated = new TaskSnapshot(taskId, "Updated Task", null, Task.Status.IN_PROGRESS,
+                null, null, null, null);
         TaskResponse taskResponse = createTaskResponse(taskId, "Updated Task");
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
-        when(taskRepository.save(existingTask)).thenReturn(updatedTask);
-        when(taskMapper.toResponse(updatedTask)).thenReturn(taskResponse);
+        when(taskRepository.patchById(taskId, request)).thenReturn(Optional.of(updated));
+        when(taskMapper.toResponse(updated)).thenReturn(taskResponse);
 
-        TaskResponse result = taskService.updateTask(taskId, request);
+        TaskResponse result = taskService.updateTask(taskId, request).orElseThrow();
 
         assertThat(result.getId()).isEqualTo(taskId);
         assertThat(result.getTitle()).isEqualTo("Updated Task");
-        verify(taskMapper).updateEntityFromRequest(existingTask, request);
-        verify(taskRepository).save(existingTask);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
-    void shouldThrowExceptionWhenUpdatingNonExistentTask() {
+    void shouldReturnEmptyWhenUpdatingNonExistentTask() {
         Long taskId = 999L;
         TaskUpdateRequest request = new TaskUpdateRequest();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> taskService.updateTask(taskId, request))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Task not found with id: 999");
+        when(missCache.generation()).thenReturn(7L);
+        when(taskRepository.patchById(taskId, request)).thenReturn(Optional.empty());
 
-        verify(taskRepository, never()).save(any());
+        assertThat(taskService.updateTask(taskId, request)).isEmpty();
+        verify(missCache).put(taskId, 7L);
     }
 
     @Test
     void shouldDeleteTask() {
         Long taskId = 1L;
-        Task task = createTask(taskId, "Task to delete");
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.removeById(taskId)).thenReturn(true);
 
-        taskService.deleteTask(taskId);
+        assertThat(taskService.deleteTask(taskId)).isTrue();
 
-        verify(taskRepository).delete(task);
+        verify(taskRepository).removeById(taskId);
+        verify(taskRepository, never()).findById(anyLong());
     }
 
     @Test
-    void shouldThrowExceptionWhenDeletingNonExistentTask() {
+    void shouldReturnFalseWhenDeletingNonExistentTask() {
         Long taskId = 999L;
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(missCache.generation()).thenReturn(7L);
+        when(taskRepository.removeById(taskId)).thenReturn(false);
 
-        assertThatThrownBy(() -> taskService.deleteTask(taskId))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Task not found with id: 999");
+        assertThat(taskService.deleteTask(taskId)).isFalse();
+        verify(missCache).put(taskId, 7L);
+    }
 
-        verify(taskRepository, never()).delete(any());
+    @Test
+    void shouldAnswerKnownMissesWithoutTheDatabase() {
+        when(missCache.contains(999L)).thenReturn(true);
+
+        assertThat(taskService.getTaskVersion(999L)).isEmpty();
+        assertThat(taskService.getTaskById(999L)).isEmpty();
+        assertThat(taskService.updateTask(999L, new TaskUpdateRequest())).isEmpty();
+        assertThat(taskService.deleteTask(999L)).isFalse();
+        verifyNoInteractions(taskRepository);
     }
 
     private Task createTask(Long id, String title) {
@@ -0,0 +1,53 @@
+package com.example.tasksapp.service;
+
+import com.example.tasksapp.config.CacheConfig;
+import com.example.tasksapp.dto.TaskVersion;
+import com.example.tasksapp.event.TaskChangedEvent;
+import com.example.tasksapp.event.TaskSnapshot;
+import com.example.tasksapp.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskVersionCacheTest {
+
+    private TaskVersionCache versionCache;
+
+    @BeforeEach
+    void setUp() {
+        versionCache = new TaskVersionCache(new CaffeineCacheManager(CacheConfig.TASK_VERSIONS));
+    }
+
+    @Test
+    void shouldDropAVersionLookedUpBeforeADeletion() {
+        TaskSnapshot task = snapshot(1L);
+        long generation = versionCache.generation();
+        versionCache.onTaskChanged(TaskChangedEvent.deleted(task));
+
+        versionCache.putIfAbsent(1L, TaskVersion.of(task), generation);
+
+        assertThat(versionCache.get(1L)).isNull();
+    }
+
+    @Test
+    void shouldKeepTheVersionOfTheLatestCommit() {
+        TaskSnapshot before = snapshot(1L);
+        TaskSnapshot after = new TaskSnapshot(1L, "Changed", null, Task.Status.DONE, Task.Priority.MEDIUM, null,
+                before.createdAt(), before.updatedAt().plusSeconds(1));
+        long generation = versionCache.generation();
+        versionCache.onTaskChanged(TaskChangedEvent.updated(before, after));
+
+        versionCache.putIfAbsent(1L, TaskVersion.of(before), generation);
+
+        assertThat(versionCache.get(1L)).isEqualTo(TaskVersion.of(after));
+    }
+
+    private TaskSnapshot snapshot(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TaskSnapshot(id, "Task " + id, null, Task.Status.OPEN, Task.Priority.MEDIUM, null, now, now);
+    }
+}